@@ -2,6 +2,8 @@ package software.amazon.amplify.app;
 
 import lombok.NonNull;
 import org.apache.commons.lang3.ObjectUtils;
+import software.amazon.amplify.common.handler.HandlerInvocation;
+import software.amazon.amplify.common.handler.Invocation;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -17,13 +19,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+    // Read and List must complete synchronously; their throttles surface as CfnThrottlingException
+    final boolean deferThrottles = !(this instanceof ReadHandler || this instanceof ListHandler);
+    return HandlerInvocation.run(getClass(), deferThrottles, proxy, request, context, ClientBuilder::getClient,
+        logger, this::handleRequest);
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -33,6 +33,19 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
           final ProxyClient<AmplifyClient> proxyClient,
           final Logger logger);
 
+  /**
+   * Final stage of a ResourcePipeline: reads the resource and reports it as ReadHandler does
+   * @param invocation the pipeline's invocation
+   * @param progress event of the previous stage
+   * @return the read's event
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> readResource(
+    final Invocation<ResourceModel, CallbackContext> invocation,
+    final ProgressEvent<ResourceModel, CallbackContext> progress) {
+    return new ReadHandler().handleRequest(invocation.getProxy(), invocation.getRequest(),
+        invocation.getCallbackContext(), invocation.getProxyClient(), invocation.getLogger());
+  }
+
   protected void setResourceModelId(@NonNull final ResourceModel model, @NonNull final App app) {
     model.setArn(app.appArn());
     model.setAppId(app.appId());
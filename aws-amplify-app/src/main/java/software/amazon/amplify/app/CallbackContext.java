@@ -2,9 +2,17 @@ package software.amazon.amplify.app;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.Map;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // Last known tags of the app, recorded by reads and tag reconciliation to spare a ListTagsForResource call
+    private Map<String, String> resourceTags;
+    // ARN of the app this create made, checkpointed right after CreateApp so that a callback resumes at the final
+    // read. It only reaches CloudFormation with a returned event: a Lambda timeout after Amplify accepted the create
+    // loses it, and the retried create makes a second app, since app names are not unique to look the first one up.
+    private String createdArn;
 }
@@ -1,7 +1,9 @@
 package software.amazon.amplify.app;
 
-import lombok.NonNull;
 import org.apache.commons.lang3.ObjectUtils;
+import software.amazon.amplify.common.handler.Invocation;
+import software.amazon.amplify.common.handler.ResourcePipeline;
+import software.amazon.amplify.common.logging.HandlerLog;
 import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
@@ -13,10 +15,13 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.ArrayList;
-
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final ResourcePipeline<ResourceModel, CallbackContext> pipeline =
+        ResourcePipeline.<ResourceModel, CallbackContext>builder()
+            .validate(this::checkReadOnlyProperties)
+            .mutate(this::createApp)
+            .project(this::readResource)
+            .build();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -25,37 +30,58 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<AmplifyClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-        final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
-
-        // Make sure the user isn't trying to assign values to read-only properties
-        String disallowedVal = checkReadOnlyProperties(model);
-        if (disallowedVal != null) {
-            throw new CfnInvalidRequestException(String.format("Attempted to provide value to a read-only property: %s", disallowedVal));
+        final Invocation<ResourceModel, CallbackContext> invocation =
+            new Invocation<>(proxy, request, callbackContext, proxyClient, logger);
+        if (callbackContext.getCreatedArn() != null) {
+            HandlerLog.info(logger, "resuming create of %s", callbackContext.getCreatedArn());
+            request.getDesiredResourceState().setArn(callbackContext.getCreatedArn());
+            return readResource(invocation, ProgressEvent.progress(request.getDesiredResourceState(), callbackContext));
         }
+        return pipeline.run(invocation);
+    }
 
-        return ProgressEvent.progress(model, callbackContext)
-            .then(progress ->
-                proxy.initiate("AWS-Amplify-App::Create", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToCreateRequest)
-                    .makeServiceCall((createAppRequest, proxyInvocation) -> {
-                        CreateAppResponse createAppResponse = (CreateAppResponse) ClientWrapper.execute(
-                                proxy,
-                                createAppRequest,
-                                proxyInvocation.client()::createApp,
-                                ResourceModel.TYPE_NAME, model.getArn(),
-                                logger
-                        );
-                        setResourceModelId(model, createAppResponse.app());
-                        return createAppResponse;
-                    })
-                    .progress()
-                )
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+    private ProgressEvent<ResourceModel, CallbackContext> createApp(
+        final Invocation<ResourceModel, CallbackContext> invocation,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final AmazonWebServicesClientProxy proxy = invocation.getProxy();
+        final ResourceModel model = invocation.getModel();
+        final CallbackContext callbackContext = invocation.getCallbackContext();
+        final Logger logger = invocation.getLogger();
+
+        return proxy.initiate("AWS-Amplify-App::Create", invocation.getProxyClient(), model, callbackContext)
+            .translateToServiceRequest(Translator::translateToCreateRequest)
+            .makeServiceCall((createAppRequest, proxyInvocation) -> {
+                CreateAppResponse createAppResponse = ClientWrapper.execute(
+                        proxy,
+                        createAppRequest,
+                        proxyInvocation.client()::createApp,
+                        ResourceModel.TYPE_NAME, model.getArn(),
+                        logger
+                );
+                setResourceModelId(model, createAppResponse.app());
+                callbackContext.setCreatedArn(model.getArn());
+                return createAppResponse;
+            })
+            .done(createAppResponse -> {
+                final App app = createAppResponse.app();
+                // CreateApp already returns the full App; only fall back to GetApp when it is incomplete
+                if (Translator.isCompleteApp(app)) {
+                    invocation.setProjectedModel(Translator.translateFromApp(app));
+                }
+                return ProgressEvent.progress(model, callbackContext);
+            });
     }
 
-    private String checkReadOnlyProperties(final ResourceModel model) {
-        return ObjectUtils.firstNonNull(model.getAppId(), model.getDefaultDomain(), model.getArn());
+    // Make sure the user isn't trying to assign values to read-only properties. Only the first invocation
+    // carries the template's values; callbacks carry the model this handler already filled in.
+    private void checkReadOnlyProperties(final Invocation<ResourceModel, CallbackContext> invocation) {
+        if (!invocation.getCallbackContext().callGraphs().isEmpty()) {
+            return;
+        }
+        final ResourceModel model = invocation.getModel();
+        String disallowedVal = ObjectUtils.firstNonNull(model.getAppId(), model.getDefaultDomain(), model.getArn());
+        if (disallowedVal != null) {
+            throw new CfnInvalidRequestException(String.format("Attempted to provide value to a read-only property: %s", disallowedVal));
+        }
     }
 }
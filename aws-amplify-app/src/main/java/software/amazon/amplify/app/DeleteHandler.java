@@ -1,8 +1,9 @@
 package software.amazon.amplify.app;
 
+import software.amazon.amplify.common.handler.Invocation;
+import software.amazon.amplify.common.handler.ResourcePipeline;
 import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
-import software.amazon.awssdk.services.amplify.model.DeleteAppResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -10,7 +11,11 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final ResourcePipeline<ResourceModel, CallbackContext> pipeline =
+        ResourcePipeline.<ResourceModel, CallbackContext>builder()
+            .mutate(this::deleteApp)
+            .project((invocation, progress) -> ProgressEvent.defaultSuccessHandler(null))
+            .build();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -19,25 +24,25 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<AmplifyClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        return pipeline.run(new Invocation<>(proxy, request, callbackContext, proxyClient, logger));
+    }
 
-        final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
+    private ProgressEvent<ResourceModel, CallbackContext> deleteApp(
+        final Invocation<ResourceModel, CallbackContext> invocation,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final AmazonWebServicesClientProxy proxy = invocation.getProxy();
+        final ResourceModel model = invocation.getModel();
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
-                proxy.initiate("AWS-Amplify-App::Delete", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToDeleteRequest)
-                    .makeServiceCall((deleteAppRequest, proxyInvocation) -> (DeleteAppResponse) ClientWrapper.execute(
-                            proxy,
-                            deleteAppRequest,
-                            proxyInvocation.client()::deleteApp,
-                            ResourceModel.TYPE_NAME,
-                            model.getArn(),
-                            logger
-                    ))
-                    .progress()
-            )
-            .then(progress -> ProgressEvent.defaultSuccessHandler(null));
+        return proxy.initiate("AWS-Amplify-App::Delete", invocation.getProxyClient(), model, invocation.getCallbackContext())
+            .translateToServiceRequest(Translator::translateToDeleteRequest)
+            .makeServiceCall((deleteAppRequest, proxyInvocation) -> ClientWrapper.execute(
+                    proxy,
+                    deleteAppRequest,
+                    proxyInvocation.client()::deleteApp,
+                    ResourceModel.TYPE_NAME,
+                    model.getArn(),
+                    invocation.getLogger()
+            ))
+            .progress();
     }
 }
@@ -1,8 +1,8 @@
 package software.amazon.amplify.app;
 
+import software.amazon.amplify.common.paging.PageAggregator;
 import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
-import software.amazon.awssdk.services.amplify.model.ListAppsRequest;
 import software.amazon.awssdk.services.amplify.model.ListAppsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -21,17 +21,22 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<AmplifyClient> proxyClient,
         final Logger logger) {
 
-        final ListAppsRequest listAppsRequest = Translator.translateToListRequest(request.getNextToken());
-        ListAppsResponse listAppsResponse = (ListAppsResponse) ClientWrapper.execute(
-                proxy,
-                listAppsRequest,
-                proxyClient.client()::listApps,
-                ResourceModel.TYPE_NAME,
-                logger
+        final PageAggregator.Page<ResourceModel> page = PageAggregator.aggregate(
+                request.getNextToken(),
+                Translator.LIST_PAGE_SIZE,
+                nextToken -> ClientWrapper.execute(
+                        proxy,
+                        Translator.translateToListRequest(nextToken),
+                        proxyClient.client()::listApps,
+                        ResourceModel.TYPE_NAME,
+                        logger
+                ),
+                Translator::translateFromListRequest,
+                ListAppsResponse::nextToken
         );
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(Translator.translateFromListRequest(listAppsResponse))
-            .nextToken(listAppsResponse.nextToken())
+            .resourceModels(page.getModels())
+            .nextToken(page.getNextToken())
             .status(OperationStatus.SUCCESS)
             .build();
     }
@@ -1,8 +1,8 @@
 package software.amazon.amplify.app;
 
+import software.amazon.amplify.common.logging.HandlerLog;
 import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
-import software.amazon.awssdk.services.amplify.model.GetAppResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -21,11 +21,11 @@ public class ReadHandler extends BaseHandlerStd {
 
         this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
+        HandlerLog.info(logger, "requesting with model: %s", HandlerLog.redacted(model));
 
         return proxy.initiate("AWS-Amplify-App::Read", proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall((getAppRequest, proxyInvocation) -> (GetAppResponse) ClientWrapper.execute(
+            .makeServiceCall((getAppRequest, proxyInvocation) -> ClientWrapper.executeCached(
                     proxy,
                     getAppRequest,
                     proxyInvocation.client()::getApp,
@@ -34,8 +34,11 @@ public class ReadHandler extends BaseHandlerStd {
                     logger
             ))
             .done(getAppResponse -> {
+                if (getAppResponse.app().hasTags()) {
+                    callbackContext.setResourceTags(getAppResponse.app().tags());
+                }
                 ResourceModel modelRet = Translator.translateFromReadResponse(getAppResponse);
-                logger.log("INFO: returning model: " + modelRet);
+                HandlerLog.info(logger, "returning model: %s", HandlerLog.redacted(modelRet));
                 return ProgressEvent.defaultSuccessHandler(modelRet);
             });
     }
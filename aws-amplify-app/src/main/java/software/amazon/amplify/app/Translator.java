@@ -3,8 +3,10 @@ package software.amazon.amplify.app;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
-import software.amazon.amplify.common.utils.ArnUtils;
+import software.amazon.amplify.common.utils.AmplifyArn;
+import software.amazon.amplify.common.utils.ModelDiff;
 import software.amazon.awssdk.services.amplify.model.App;
 import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
 import software.amazon.awssdk.services.amplify.model.CustomRule;
@@ -19,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -28,7 +31,6 @@ import software.amazon.awssdk.services.amplify.model.GetAppRequest;
 import software.amazon.awssdk.services.amplify.model.GetAppResponse;
 import software.amazon.awssdk.services.amplify.model.ListAppsRequest;
 import software.amazon.awssdk.services.amplify.model.ListAppsResponse;
-import software.amazon.awssdk.services.amplify.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.amplify.model.UpdateAppRequest;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -42,7 +44,41 @@ import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
  */
 
 public class Translator {
-  private static final String ARN_SPLIT_KEY = " ";
+  // Largest maxResults ListApps accepts
+  static final int LIST_PAGE_SIZE = 100;
+
+  static final String ACCESS_TOKEN = "AccessToken";
+  static final String AUTO_BRANCH_CREATION_CONFIG = "AutoBranchCreationConfig";
+  static final String BASIC_AUTH_CONFIG = "BasicAuthConfig";
+  static final String BUILD_SPEC = "BuildSpec";
+  static final String CUSTOM_HEADERS = "CustomHeaders";
+  static final String CUSTOM_RULES = "CustomRules";
+  static final String DESCRIPTION = "Description";
+  static final String ENABLE_BRANCH_AUTO_DELETION = "EnableBranchAutoDeletion";
+  static final String ENVIRONMENT_VARIABLES = "EnvironmentVariables";
+  static final String IAM_SERVICE_ROLE = "IAMServiceRole";
+  static final String NAME = "Name";
+  static final String OAUTH_TOKEN = "OauthToken";
+  static final String REPOSITORY = "Repository";
+  static final String TAGS = "Tags";
+  // Properties that can change in place; read-only properties are excluded
+  static final ModelDiff<ResourceModel> MODEL_DIFF = ModelDiff.<ResourceModel>builder()
+          .property(ACCESS_TOKEN, ResourceModel::getAccessToken)
+          .property(AUTO_BRANCH_CREATION_CONFIG, ResourceModel::getAutoBranchCreationConfig)
+          .property(BASIC_AUTH_CONFIG, ResourceModel::getBasicAuthConfig)
+          .property(BUILD_SPEC, ResourceModel::getBuildSpec)
+          .property(CUSTOM_HEADERS, ResourceModel::getCustomHeaders)
+          .property(CUSTOM_RULES, ResourceModel::getCustomRules)
+          .property(DESCRIPTION, ResourceModel::getDescription)
+          .property(ENABLE_BRANCH_AUTO_DELETION, ResourceModel::getEnableBranchAutoDeletion)
+          .property(ENVIRONMENT_VARIABLES, ResourceModel::getEnvironmentVariables)
+          .property(IAM_SERVICE_ROLE, ResourceModel::getIAMServiceRole)
+          .property(NAME, ResourceModel::getName)
+          .property(OAUTH_TOKEN, ResourceModel::getOauthToken)
+          .property(REPOSITORY, ResourceModel::getRepository)
+          .property(TAGS, ResourceModel::getTags)
+          .build();
+
   /**
    * Request to create a resource
    * @param model resource model
@@ -108,8 +144,16 @@ public class Translator {
    * @return model resource model
    */
   static ResourceModel translateFromReadResponse(final GetAppResponse getAppResponse) {
+    return translateFromApp(getAppResponse.app());
+  }
+
+  /**
+   * Translates the App returned by a CreateApp/UpdateApp call into a resource model, avoiding a follow-up GetApp
+   * @param app the app carried by the aws service create or update response
+   * @return model resource model
+   */
+  static ResourceModel translateFromApp(final App app) {
     ResourceModel.ResourceModelBuilder appModelBuilder = ResourceModel.builder();
-    App app = getAppResponse.app();
 
     appModelBuilder
             .appId(app.appId())
@@ -149,6 +193,15 @@ public class Translator {
     return appModelBuilder.build();
   }
 
+  /**
+   * Whether a CreateApp/UpdateApp response carries enough of the App to build the final model without a GetApp
+   * @param app the app carried by the aws service create or update response
+   * @return true when the identifiers and required properties are present
+   */
+  static boolean isCompleteApp(final App app) {
+    return app != null && ObjectUtils.allNotNull(app.appArn(), app.appId(), app.name());
+  }
+
   /**
    * Request to delete a resource
    * @param model resource model
@@ -162,39 +215,58 @@ public class Translator {
   }
 
   /**
-   * Request to update properties of a previously created resource
+   * Request to update properties of a previously created resource, carrying only the properties that changed
    * @param model resource model
+   * @param changedProperties names of the properties that differ from the previous resource state
    * @return updateAppRequest the aws service request to modify a resource
    */
-  static UpdateAppRequest translateToUpdateRequest(final ResourceModel model) {
+  static UpdateAppRequest translateToUpdateRequest(final ResourceModel model, final Set<String> changedProperties) {
     initializeModel(model);
     final UpdateAppRequest.Builder updateAppRequest = UpdateAppRequest.builder()
-            .appId(model.getAppId())
-            .name(model.getName())
-            .description(model.getDescription())
-            .oauthToken(model.getOauthToken())
-            .repository(model.getRepository())
-            .iamServiceRoleArn(model.getIAMServiceRole())
-            .buildSpec(model.getBuildSpec())
-            .accessToken(model.getAccessToken())
-            .enableBranchAutoDeletion(model.getEnableBranchAutoDeletion())
-            .customHeaders(model.getCustomHeaders());
+            .appId(model.getAppId());
 
+    if (changedProperties.contains(NAME)) {
+      updateAppRequest.name(model.getName());
+    }
+    if (changedProperties.contains(DESCRIPTION)) {
+      updateAppRequest.description(model.getDescription());
+    }
+    if (changedProperties.contains(OAUTH_TOKEN)) {
+      updateAppRequest.oauthToken(model.getOauthToken());
+    }
+    if (changedProperties.contains(REPOSITORY)) {
+      updateAppRequest.repository(model.getRepository());
+    }
+    if (changedProperties.contains(IAM_SERVICE_ROLE)) {
+      updateAppRequest.iamServiceRoleArn(model.getIAMServiceRole());
+    }
+    if (changedProperties.contains(BUILD_SPEC)) {
+      updateAppRequest.buildSpec(model.getBuildSpec());
+    }
+    if (changedProperties.contains(ACCESS_TOKEN)) {
+      updateAppRequest.accessToken(model.getAccessToken());
+    }
+    if (changedProperties.contains(ENABLE_BRANCH_AUTO_DELETION)) {
+      updateAppRequest.enableBranchAutoDeletion(model.getEnableBranchAutoDeletion());
+    }
+    if (changedProperties.contains(CUSTOM_HEADERS)) {
+      updateAppRequest.customHeaders(model.getCustomHeaders());
+    }
     List<software.amazon.amplify.app.CustomRule> customRules = model.getCustomRules();
-    if (customRules != null) {
+    if (customRules != null && changedProperties.contains(CUSTOM_RULES)) {
       updateAppRequest.customRules(getCustomRulesSDK(customRules));
     }
     List<EnvironmentVariable> environmentVariables = model.getEnvironmentVariables();
-    if (environmentVariables != null) {
+    if (environmentVariables != null && changedProperties.contains(ENVIRONMENT_VARIABLES)) {
       updateAppRequest.environmentVariables(getEnvironmentVariablesSDK(environmentVariables));
     }
     BasicAuthConfig basicAuthConfig = model.getBasicAuthConfig();
-    if (basicAuthConfig != null) {
+    if (basicAuthConfig != null && changedProperties.contains(BASIC_AUTH_CONFIG)) {
       updateAppRequest.enableBasicAuth(basicAuthConfig.getEnableBasicAuth());
       updateAppRequest.basicAuthCredentials(getBasicAuthCredentialsSDK(basicAuthConfig));
     }
     software.amazon.amplify.app.AutoBranchCreationConfig autoBranchCreationConfigCFN = model.getAutoBranchCreationConfig();
-    if (autoBranchCreationConfigCFN != null) {
+    if (autoBranchCreationConfigCFN != null && changedProperties.contains(AUTO_BRANCH_CREATION_CONFIG)) {
       updateAppRequest.enableAutoBranchCreation(autoBranchCreationConfigCFN.getEnableAutoBranchCreation());
       updateAppRequest.autoBranchCreationConfig(getAutoBranchCreationConfigSDK(autoBranchCreationConfigCFN));
       List<String> autoBranchCreationPatterns = autoBranchCreationConfigCFN.getAutoBranchCreationPatterns();
@@ -212,6 +284,7 @@ public class Translator {
    */
   static ListAppsRequest translateToListRequest(final String nextToken) {
     return ListAppsRequest.builder()
+            .maxResults(LIST_PAGE_SIZE)
             .nextToken(nextToken)
             .build();
   }
@@ -229,12 +302,6 @@ public class Translator {
         .collect(Collectors.toList());
   }
 
-  static ListTagsForResourceRequest translateToListTagsForResourceRequest(final String arn) {
-    return ListTagsForResourceRequest.builder()
-            .resourceArn(arn)
-            .build();
-  }
-
   /*
    * Helpers
    */
@@ -244,7 +311,7 @@ public class Translator {
       if (arn == null) {
         throw new CfnNotFoundException(ResourceModel.TYPE_NAME, null);
       }
-      model.setAppId(ArnUtils.getAppId(arn, ARN_SPLIT_KEY));
+      model.setAppId(AmplifyArn.parse(arn, AmplifyArn.ResourceKind.APP).getAppId());
     }
   }
 
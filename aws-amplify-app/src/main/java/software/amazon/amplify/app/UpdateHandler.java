@@ -1,14 +1,13 @@
 package software.amazon.amplify.app;
 
+import software.amazon.amplify.common.handler.Invocation;
+import software.amazon.amplify.common.handler.ResourcePipeline;
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.TagReconciler;
 
-import com.google.common.collect.Sets;
 import org.apache.commons.collections.MapUtils;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
-import software.amazon.awssdk.services.amplify.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.amplify.model.ListTagsForResourceResponse;
-import software.amazon.awssdk.services.amplify.model.TagResourceRequest;
-import software.amazon.awssdk.services.amplify.model.UntagResourceRequest;
+import software.amazon.awssdk.services.amplify.model.App;
 import software.amazon.awssdk.services.amplify.model.UpdateAppResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -17,13 +16,22 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private static final Set<String> TAGS_ONLY = Collections.singleton(Translator.TAGS);
+
+    private final ResourcePipeline<ResourceModel, CallbackContext> pipeline =
+        ResourcePipeline.<ResourceModel, CallbackContext>builder()
+            .diff(Translator.MODEL_DIFF)
+            .mutate(this::updateApp)
+            .tag(this::updateTags)
+            .project(this::readResource)
+            .build();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -32,74 +40,83 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<AmplifyClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-        final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
-
-        return ProgressEvent.progress(model, callbackContext)
-            .then(progress ->
-                proxy.initiate("AWS-Amplify-App::Update", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToUpdateRequest)
-                    .makeServiceCall((updateAppRequest, proxyInvocation) -> {
-                        UpdateAppResponse updateAppResponse = (UpdateAppResponse) ClientWrapper.execute(
-                                proxy,
-                                updateAppRequest,
-                                proxyInvocation.client()::updateApp,
-                                ResourceModel.TYPE_NAME,
-                                model.getArn(),
-                                logger
-                        );
-                        setResourceModelId(model, updateAppResponse.app());
-                        updateTags(proxy, proxyClient, model, convertToResourceTags(model.getTags()));
-                        return updateAppResponse;
-                    })
-                    .progress()
-            )
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+        return pipeline.run(new Invocation<>(proxy, request, callbackContext, proxyClient, logger));
     }
 
-    private void updateTags(final AmazonWebServicesClientProxy proxy,
-                            final ProxyClient<AmplifyClient> proxyClient,
-                            final ResourceModel model,
-                            final Map<String, String> desiredTags) {
-        logger.log("INFO: Modifying Tags");
-        final Set<Tag> finalTags = convertResourceTagsToSet(desiredTags);
-        final Set<Tag> existingTags = getExistingTags(proxy, proxyClient, model);
-
-        final Set<Tag> tagsToRemove = Sets.difference(existingTags, finalTags);
-        final Set<Tag> tagsToAdd = Sets.difference(finalTags, existingTags);
-
-        if (tagsToRemove.size() > 0) {
-            Collection<String> tagKeys = tagsToRemove.stream().map(Tag::getKey).collect(Collectors.toSet());
-            final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder().resourceArn(model.getArn())
-                    .tagKeys(tagKeys).build();
-            ClientWrapper.execute(proxy, untagResourceRequest, proxyClient.client()::untagResource, ResourceModel.TYPE_NAME, model.getAppId(), logger);
-        }
+    private ProgressEvent<ResourceModel, CallbackContext> updateApp(
+        final Invocation<ResourceModel, CallbackContext> invocation,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final AmazonWebServicesClientProxy proxy = invocation.getProxy();
+        final ResourceModel model = invocation.getModel();
+        final CallbackContext callbackContext = invocation.getCallbackContext();
+        final Set<String> changedProperties = invocation.getChangedProperties();
 
-        if (tagsToAdd.size() > 0) {
-            Map<String, String> tags = convertToResourceTags(tagsToAdd);
-            final TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
-                    .resourceArn(model.getArn()).tags(tags).build();
-            ClientWrapper.execute(proxy, tagResourceRequest, proxyClient.client()::tagResource, ResourceModel.TYPE_NAME, model.getAppId(), logger);
-        }
-        logger.log("INFO: Successfully Updated Tags");
+        return proxy.initiate("AWS-Amplify-App::Update", invocation.getProxyClient(), model, callbackContext)
+            .translateToServiceRequest(resourceModel -> Translator.translateToUpdateRequest(resourceModel, changedProperties))
+            .makeServiceCall((updateAppRequest, proxyInvocation) -> {
+                final Supplier<UpdateAppResponse> updateApp = () -> ClientWrapper.execute(
+                        proxy,
+                        updateAppRequest,
+                        proxyInvocation.client()::updateApp,
+                        ResourceModel.TYPE_NAME,
+                        model.getArn(),
+                        invocation.getLogger()
+                );
+                final UpdateAppResponse updateAppResponse;
+                if (TAGS_ONLY.equals(changedProperties) && model.getArn() != null) {
+                    // App properties are unchanged, so UpdateApp does not depend on the tag calls
+                    updateAppResponse = updateTagsAlongside(updateApp, invocation);
+                } else {
+                    updateAppResponse = updateApp.get();
+                    // UpdateApp returns the current tags, so ListTagsForResource is only needed when they are absent
+                    if (updateAppResponse.app().hasTags()) {
+                        callbackContext.setResourceTags(updateAppResponse.app().tags());
+                    }
+                }
+                setResourceModelId(model, updateAppResponse.app());
+                return updateAppResponse;
+            })
+            .done(updateAppResponse -> {
+                final App app = updateAppResponse.app();
+                // UpdateApp already returns the full App; only fall back to GetApp when it is incomplete
+                if (Translator.isCompleteApp(app)) {
+                    ResourceModel modelRet = Translator.translateFromApp(app);
+                    // Tags are reconciled after UpdateApp, so the response still carries the previous set
+                    final Map<String, String> desiredTags = convertToResourceTags(model.getTags());
+                    modelRet.setTags(MapUtils.isNotEmpty(desiredTags) ? Translator.getTagsCFN(desiredTags) : null);
+                    invocation.setProjectedModel(modelRet);
+                }
+                return ProgressEvent.progress(model, callbackContext);
+            });
     }
 
-    private Set<Tag> getExistingTags(final AmazonWebServicesClientProxy proxy,
-                                     final ProxyClient<AmplifyClient> proxyClient,
-                                     final ResourceModel model) {
-        ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsForResourceRequest(model.getArn());
-        ListTagsForResourceResponse listTagsForResourceResponse = (ListTagsForResourceResponse) ClientWrapper.execute(proxy,
-                listTagsForResourceRequest, proxyClient.client()::listTagsForResource,ResourceModel.TYPE_NAME, model.getAppId(), logger);
-        return convertResourceTagsToSet(listTagsForResourceResponse.tags());
+    private ProgressEvent<ResourceModel, CallbackContext> updateTags(
+        final Invocation<ResourceModel, CallbackContext> invocation,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ResourceModel model = invocation.getModel();
+        final CallbackContext callbackContext = invocation.getCallbackContext();
+        final Map<String, String> desiredTags = convertToResourceTags(model.getTags());
+        // Nothing to do when Tags did not change, or were already reconciled alongside UpdateApp
+        if (!invocation.getChangedProperties().contains(Translator.TAGS)
+                || desiredTags.equals(callbackContext.getResourceTags())) {
+            return progress;
+        }
+        callbackContext.setResourceTags(TagReconciler.reconcile(invocation.getProxy(), invocation.getProxyClient(),
+                model.getArn(), callbackContext.getResourceTags(), desiredTags, ResourceModel.TYPE_NAME,
+                model.getAppId(), invocation.getLogger()));
+        return progress;
     }
 
-    private static Set<Tag> convertResourceTagsToSet(final Map<String, String> resourceTags) {
-        final Set<Tag> tagSet = Sets.newHashSet();
-        if (MapUtils.isNotEmpty(resourceTags)) {
-            resourceTags.forEach((key, value) -> tagSet.add(Tag.builder().key(key).value(value).build()));
-        }
-        return tagSet;
+    private UpdateAppResponse updateTagsAlongside(final Supplier<UpdateAppResponse> updateApp,
+                                                  final Invocation<ResourceModel, CallbackContext> invocation) {
+        final ResourceModel model = invocation.getModel();
+        final CallbackContext callbackContext = invocation.getCallbackContext();
+        final Map<String, String> desiredTags = convertToResourceTags(model.getTags());
+        final UpdateAppResponse updateAppResponse = TagReconciler.reconcileAlongside(updateApp, invocation.getProxy(),
+                invocation.getProxyClient(), model.getArn(), callbackContext.getResourceTags(), desiredTags,
+                ResourceModel.TYPE_NAME, model.getAppId(), invocation.getLogger());
+        callbackContext.setResourceTags(desiredTags);
+        return updateAppResponse;
     }
 
     private static Map<String, String> convertToResourceTags(final Collection<Tag> tagSet) {
@@ -1,14 +1,22 @@
 package software.amazon.amplify.app;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.TestInfo;
+import software.amazon.amplify.common.retry.RetryPolicy;
+import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
 import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
 import software.amazon.awssdk.services.amplify.model.CreateAppResponse;
 import software.amazon.awssdk.services.amplify.model.GetAppRequest;
 import software.amazon.awssdk.services.amplify.model.GetAppResponse;
+import software.amazon.awssdk.services.amplify.model.InternalFailureException;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -28,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -104,8 +113,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void handleRequest_SimpleSuccess_MinimalApp() {
         App appMock = App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build();
         CreateAppResponse createAppResponseMock = CreateAppResponse.builder().app(appMock).build();
-        GetAppResponse getAppResponseMock = GetAppResponse.builder().app(appMock).build();
-        stubProxyClient(createAppResponseMock, getAppResponseMock);
+        stubProxyClient(createAppResponseMock);
         final CreateHandler handler = new CreateHandler();
 
         final ResourceModel model = ResourceModel.builder()
@@ -138,8 +146,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void handleRequest_SimpleSuccess_DisabledOrEmptyProps() {
         App appMock = App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build();
         CreateAppResponse createAppResponseMock = CreateAppResponse.builder().app(appMock).build();
-        GetAppResponse getAppResponseMock = GetAppResponse.builder().app(appMock).build();
-        stubProxyClient(createAppResponseMock, getAppResponseMock);
+        stubProxyClient(createAppResponseMock);
         final CreateHandler handler = new CreateHandler();
         final AutoBranchCreationConfig autoBranchCreationConfig = AutoBranchCreationConfig.builder()
                 .enableAutoBranchCreation(true)
@@ -175,6 +182,99 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_IncompleteCreateResponseFallsBackToRead() {
+        App createdAppMock = App.builder().appArn(APP_ARN).appId(APP_ID).build();
+        App appMock = App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build();
+        stubProxyClient(CreateAppResponse.builder().app(createdAppMock).build());
+        when(proxyClient.client().getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder().app(appMock).build());
+        final CreateHandler handler = new CreateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(APP_NAME)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+        final ResourceModel expected = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .appName(APP_NAME)
+                .name(APP_NAME)
+                .build();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expected);
+        verify(amplifyClient).getApp(any(GetAppRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CallbackWithCreatedArnSkipsCreate() {
+        App appMock = App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build();
+        stubProxyClient(CreateAppResponse.builder().app(appMock).build());
+        final CreateHandler handler = new CreateHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(APP_NAME).build())
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+        handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        assertThat(callbackContext.getCreatedArn()).isEqualTo(APP_ARN);
+
+        // A callback, e.g. after a deferred throttle, is deserialized with the checkpoint and goes straight to the read
+        final CallbackContext resumedContext = new CallbackContext();
+        resumedContext.setCreatedArn(callbackContext.getCreatedArn());
+        when(proxyClient.client().getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder().app(appMock).build());
+        final ResourceHandlerRequest<ResourceModel> callback = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(APP_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, callback,
+                resumedContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(APP_ARN);
+        verify(amplifyClient, times(1)).createApp(any(CreateAppRequest.class));
+        verify(amplifyClient, times(1)).getApp(any(GetAppRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CreateNotRetriedAfterTransientFailures() {
+        final RetryPolicy previousPolicy = ClientWrapper.getRetryPolicy();
+        ClientWrapper.setRetryPolicy(RetryPolicy.builder()
+                .retryOn(InternalFailureException.class)
+                .retryOn(SdkClientException.class)
+                .maxAttempts(3)
+                .baseDelay(Duration.ofMillis(1))
+                .maxDelay(Duration.ofMillis(1))
+                .build());
+        when(proxyClient.client().createApp(any(CreateAppRequest.class)))
+                .thenThrow(InternalFailureException.builder().statusCode(500).message("Internal failure").build())
+                .thenThrow(SdkClientException.create("Read timed out"));
+        final CreateHandler handler = new CreateHandler();
+
+        try {
+            // Either failure leaves it unknown whether the app was created; repeating the create could create a
+            // second one
+            assertThatThrownBy(() -> handler.handleRequest(proxy, newCreateRequest(), new CallbackContext(),
+                    proxyClient, logger))
+                    .isInstanceOf(CfnInternalFailureException.class);
+            assertThat(handler.handleRequest(proxy, newCreateRequest(), new CallbackContext(), proxyClient, logger)
+                    .getStatus())
+                    .isEqualTo(OperationStatus.FAILED);
+        } finally {
+            ClientWrapper.setRetryPolicy(previousPolicy);
+        }
+        verify(amplifyClient, times(2)).createApp(any(CreateAppRequest.class));
+    }
+
     @Test
     public void handleRequest_initializeModel() {
         stubProxyClientGet();
@@ -228,6 +328,38 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .hasMessageContaining("Attempted to provide value to a read-only property");
     }
 
+    @Test
+    public void handleRequest_LogsRedactedAndTruncatedModel() {
+        App appMock = App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build();
+        stubProxyClient(CreateAppResponse.builder().app(appMock).build());
+        final CreateHandler handler = new CreateHandler();
+        final String buildSpec = String.join("", Collections.nCopies(1000, "version: 1\n"));
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(APP_NAME)
+                .oauthToken("secretOauthToken")
+                .buildSpec(buildSpec)
+                .basicAuthConfig(BASIC_AUTH_CONFIG)
+                .environmentVariables(Collections.singletonList(EnvironmentVariable.builder()
+                        .name("DB_PASSWORD")
+                        .value("secretEnvValue")
+                        .build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final List<String> lines = new ArrayList<>();
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, lines::add);
+        final String log = String.join("\n", lines);
+
+        assertThat(log).contains("INFO: requesting with model:", "DB_PASSWORD", "truncated, " + buildSpec.length() + " chars");
+        assertThat(log).doesNotContain("secretOauthToken", "dummyPass", "secretEnvValue", buildSpec);
+        // Requests are only logged at DEBUG
+        assertThat(log).doesNotContain("Invoking with request");
+    }
+
     private void stubProxyClient() {
         App appMock = App.builder()
                         .appArn(APP_ARN)
@@ -241,8 +373,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .tags(Translator.getTagsSDK(TAGS_CFN))
                         .build();
         CreateAppResponse createAppResponseMock = CreateAppResponse.builder().app(appMock).build();
-        GetAppResponse getAppResponseMock = GetAppResponse.builder().app(appMock).build();
-        stubProxyClient(createAppResponseMock, getAppResponseMock);
+        stubProxyClient(createAppResponseMock);
     }
 
     private void stubProxyClientGet() {
@@ -252,11 +383,14 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .thenReturn(getAppResponseMock);
     }
 
-    private void stubProxyClient(CreateAppResponse createAppResponseMock, GetAppResponse getAppResponseMock) {
+    private static ResourceHandlerRequest<ResourceModel> newCreateRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().name(APP_NAME).build())
+                .build();
+    }
+
+    private void stubProxyClient(CreateAppResponse createAppResponseMock) {
         when(proxyClient.client().createApp(any(CreateAppRequest.class)))
                 .thenReturn(createAppResponseMock);
-
-        when(proxyClient.client().getApp(any(GetAppRequest.class)))
-                .thenReturn(getAppResponseMock);
     }
 }
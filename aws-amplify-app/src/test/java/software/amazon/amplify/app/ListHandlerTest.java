@@ -5,6 +5,8 @@ import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
 import software.amazon.awssdk.services.amplify.model.ListAppsRequest;
 import software.amazon.awssdk.services.amplify.model.ListAppsResponse;
+import software.amazon.awssdk.services.amplify.model.UnauthorizedException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -17,11 +19,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest extends AbstractTestBase {
@@ -61,7 +71,7 @@ public class ListHandlerTest extends AbstractTestBase {
                 .build();
 
         when(proxyClient.client().listApps(any(ListAppsRequest.class)))
-                .thenReturn(listAppsResponse);
+                .thenReturn(listAppsResponse, listAppsResponse.toBuilder().nextToken(null).build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -71,8 +81,115 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
-        assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_StopsPagingAtResponseBudget() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        final List<App> fullPage = new ArrayList<>();
+        for (int i = 0; i < Translator.LIST_PAGE_SIZE; i++) {
+            fullPage.add(App.builder().appArn(APP_ARN + i).build());
+        }
+        when(proxyClient.client().listApps(any(ListAppsRequest.class)))
+                .thenReturn(ListAppsResponse.builder().apps(fullPage).nextToken("token2").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // Ten full pages fill the default budget of 1000 models; the listing resumes from the last token
+        assertThat(response.getResourceModels()).hasSize(1000);
+        assertThat(response.getNextToken()).isEqualTo("token2");
+        verify(amplifyClient, times(10)).listApps(argThat((ListAppsRequest listAppsRequest) ->
+                listAppsRequest.maxResults() == Translator.LIST_PAGE_SIZE));
+    }
+
+    @Test
+    public void handleRequest_AggregatesPrefetchedPagesInOrder() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        when(proxyClient.client().listApps(any(ListAppsRequest.class))).thenAnswer(invocation -> {
+            final String nextToken = invocation.<ListAppsRequest>getArgument(0).nextToken();
+            if (nextToken == null) {
+                return listAppsPage("token2", APP_ARN + "1", APP_ARN + "2");
+            }
+            if (nextToken.equals("token2")) {
+                return listAppsPage("token3", APP_ARN + "3");
+            }
+            return listAppsPage(null, APP_ARN + "4", APP_ARN + "5");
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels().stream().map(ResourceModel::getArn).collect(Collectors.toList()))
+                .containsExactly(APP_ARN + "1", APP_ARN + "2", APP_ARN + "3", APP_ARN + "4", APP_ARN + "5");
+        assertThat(response.getNextToken()).isNull();
+        // The last page has no token, so nothing is fetched after it
+        verify(amplifyClient, times(3)).listApps(any(ListAppsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_StopsPagingAtEmptyNextToken() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .nextToken("token2")
+            .build();
+
+        when(proxyClient.client().listApps(any(ListAppsRequest.class)))
+                .thenReturn(listAppsPage("", APP_ARN));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isNull();
+        verify(amplifyClient).listApps(argThat((ListAppsRequest listAppsRequest) ->
+                "token2".equals(listAppsRequest.nextToken())));
+        verify(amplifyClient, never()).listApps(argThat((ListAppsRequest listAppsRequest) ->
+                listAppsRequest.nextToken() == null || listAppsRequest.nextToken().isEmpty()));
+    }
+
+    @Test
+    public void handleRequest_PropagatesPrefetchedPageFailure() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        when(proxyClient.client().listApps(any(ListAppsRequest.class))).thenAnswer(invocation -> {
+            if (invocation.<ListAppsRequest>getArgument(0).nextToken() == null) {
+                return listAppsPage("token2", APP_ARN);
+            }
+            throw UnauthorizedException.builder().message("denied").build();
+        });
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnAccessDeniedException.class);
+        verify(amplifyClient, times(2)).listApps(any(ListAppsRequest.class));
+    }
+
+    private static ListAppsResponse listAppsPage(final String nextToken, final String... appArns) {
+        final List<App> apps = new ArrayList<>();
+        for (final String appArn : appArns) {
+            apps.add(App.builder().appArn(appArn).build());
+        }
+        return ListAppsResponse.builder().apps(apps).nextToken(nextToken).build();
+    }
 }
@@ -1,11 +1,28 @@
 package software.amazon.amplify.app;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
+import software.amazon.amplify.common.cache.ReadCache;
+import software.amazon.amplify.common.metrics.CallMetric;
+import software.amazon.amplify.common.metrics.ClientMetrics;
+import software.amazon.amplify.common.metrics.MetricsSink;
+import software.amazon.amplify.common.retry.InvocationDeadline;
+import software.amazon.amplify.common.retry.RetryPolicy;
+import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.AmplifyException;
 import software.amazon.awssdk.services.amplify.model.App;
 import software.amazon.awssdk.services.amplify.model.GetAppRequest;
 import software.amazon.awssdk.services.amplify.model.GetAppResponse;
+import software.amazon.awssdk.services.amplify.model.InternalFailureException;
+import software.amazon.awssdk.services.amplify.model.NotFoundException;
+import software.amazon.awssdk.services.amplify.model.UpdateAppRequest;
+import software.amazon.awssdk.services.amplify.model.UpdateAppResponse;
+import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -19,9 +36,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -96,4 +115,120 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_RecordsCallMetrics() {
+        final ReadHandler handler = new ReadHandler();
+        final List<CallMetric> metrics = new ArrayList<>();
+        final MetricsSink previousSink = ClientMetrics.getSink();
+        ClientMetrics.setSink(metrics::add);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().arn(APP_ARN).appId(APP_ID).build())
+            .build();
+
+        when(proxyClient.client().getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder()
+                        .app(App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build())
+                        .build())
+                .thenThrow(NotFoundException.builder().message("App not found").build());
+
+        try {
+            ClientMetrics.measure(ReadHandler.class,
+                    () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+            assertThatThrownBy(() -> ClientMetrics.measure(ReadHandler.class,
+                    () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger)))
+                    .isInstanceOf(CfnNotFoundException.class);
+        } finally {
+            ClientMetrics.setSink(previousSink);
+        }
+
+        assertThat(metrics).hasSize(2);
+        assertThat(metrics.get(0).getOperation()).isEqualTo("GetApp");
+        assertThat(metrics.get(0).getAction()).isEqualTo("Read");
+        assertThat(metrics.get(0).getResourceTypeName()).isEqualTo(ResourceModel.TYPE_NAME);
+        assertThat(metrics.get(0).getErrorType()).isNull();
+        assertThat(metrics.get(1).getErrorType()).isEqualTo(CfnNotFoundException.class.getSimpleName());
+        assertThat(metrics.get(1).isThrottled()).isFalse();
+    }
+
+    @Test
+    public void handleRequest_RetriesTransientFailures() {
+        final ReadHandler handler = new ReadHandler();
+        final RetryPolicy previousPolicy = ClientWrapper.getRetryPolicy();
+        ClientWrapper.setRetryPolicy(RetryPolicy.builder()
+                .retryOn(InternalFailureException.class)
+                .retryOn(e -> e instanceof AwsServiceException && ((AwsServiceException) e).statusCode() >= 500)
+                .maxAttempts(3)
+                .baseDelay(Duration.ofMillis(1))
+                .maxDelay(Duration.ofMillis(1))
+                .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().arn(APP_ARN).appId(APP_ID).build())
+            .build();
+
+        when(proxyClient.client().getApp(any(GetAppRequest.class)))
+                .thenThrow(InternalFailureException.builder().message("Internal failure").build())
+                .thenThrow(AmplifyException.builder().statusCode(503).message("Service unavailable").build())
+                .thenReturn(GetAppResponse.builder()
+                        .app(App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build())
+                        .build())
+                .thenThrow(InternalFailureException.builder().message("Internal failure").build());
+
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                    new CallbackContext(), proxyClient, logger);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getAppId()).isEqualTo(APP_ID);
+
+            // No time left in the invocation's budget for a backoff: the failure surfaces immediately
+            assertThatThrownBy(() -> InvocationDeadline.within(Duration.ZERO,
+                    () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger)))
+                    .isInstanceOf(CfnInternalFailureException.class);
+        } finally {
+            ClientWrapper.setRetryPolicy(previousPolicy);
+        }
+        verify(amplifyClient, times(4)).getApp(any(GetAppRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ServesRepeatedReadsFromCache() {
+        final ReadHandler handler = new ReadHandler();
+        final ReadCache previousCache = ClientWrapper.getReadCache();
+        ClientWrapper.setReadCache(ReadCache.of(16, Duration.ofMinutes(1)));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().arn(APP_ARN).appId(APP_ID).build())
+            .build();
+
+        when(proxyClient.client().getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder()
+                        .app(App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build())
+                        .build())
+                .thenReturn(GetAppResponse.builder()
+                        .app(App.builder().appArn(APP_ARN).appId(APP_ID).name("renamed").build())
+                        .build());
+        when(proxyClient.client().updateApp(any(UpdateAppRequest.class)))
+                .thenReturn(UpdateAppResponse.builder().build());
+
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(proxy, request,
+                    new CallbackContext(), proxyClient, logger);
+            final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(proxy, request,
+                    new CallbackContext(), proxyClient, logger);
+            assertThat(second.getResourceModel()).isEqualTo(first.getResourceModel());
+
+            // A mutation of the app through ClientWrapper drops its cached read
+            ClientWrapper.execute(proxy, UpdateAppRequest.builder().appId(APP_ID).name("renamed").build(),
+                    proxyClient.client()::updateApp, ResourceModel.TYPE_NAME, logger);
+            final ProgressEvent<ResourceModel, CallbackContext> third = handler.handleRequest(proxy, request,
+                    new CallbackContext(), proxyClient, logger);
+            assertThat(third.getResourceModel().getName()).isEqualTo("renamed");
+        } finally {
+            ClientWrapper.setReadCache(previousCache);
+        }
+        verify(amplifyClient, times(2)).getApp(any(GetAppRequest.class));
+        verify(amplifyClient).updateApp(any(UpdateAppRequest.class));
+    }
 }
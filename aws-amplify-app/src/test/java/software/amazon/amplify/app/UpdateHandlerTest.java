@@ -1,6 +1,8 @@
 package software.amazon.amplify.app;
 
 import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -112,14 +115,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                                 .name(APP_NAME)
                                 .build())
                         .build());
-        when(proxyClient.client().getApp(any(GetAppRequest.class)))
-                .thenReturn(GetAppResponse.builder()
-                        .app(App.builder()
-                                .appArn(APP_ARN)
-                                .appId(APP_ID)
-                                .name(APP_NAME)
-                                .build())
-                        .build());
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
                 .thenReturn(ListTagsForResourceResponse.builder().build());
 
@@ -155,22 +150,245 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(amplifyClient, never()).untagResource(any(UntagResourceRequest.class));
     }
 
-    private void stubProxyClient() {
+    @Test
+    public void handleRequest_TagsFromUpdateResponse() {
+        when(proxyClient.client().updateApp(any(UpdateAppRequest.class)))
+                .thenReturn(UpdateAppResponse.builder()
+                        .app(App.builder()
+                                .appArn(APP_ARN)
+                                .appId(APP_ID)
+                                .name(APP_NAME)
+                                .tags(ImmutableMap.of("oldFoo", "oldBar"))
+                                .build())
+                        .build());
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder()
+                .build());
+        when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder()
+                .build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .tags(TAGS_CFN)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).isEqualTo(TAGS_CFN);
+        verify(amplifyClient).tagResource(any(TagResourceRequest.class));
+        verify(amplifyClient).untagResource(any(UntagResourceRequest.class));
+        verify(amplifyClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TagsOnlyChangeRunsAlongsideUpdate() {
+        // UpdateApp only returns once both tag calls have started, which they can only do concurrently with it
+        final CountDownLatch tagCallsStarted = new CountDownLatch(2);
+        when(proxyClient.client().updateApp(any(UpdateAppRequest.class))).thenAnswer(invocation -> {
+            assertThat(tagCallsStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return UpdateAppResponse.builder()
+                    .app(App.builder().appArn(APP_ARN).appId(APP_ID).name(APP_NAME).build())
+                    .build();
+        });
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenAnswer(invocation -> {
+            tagCallsStarted.countDown();
+            return TagResourceResponse.builder().build();
+        });
+        when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenAnswer(invocation -> {
+            tagCallsStarted.countDown();
+            return UntagResourceResponse.builder().build();
+        });
+
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .tags(Translator.getTagsCFN(ImmutableMap.of("oldFoo", "oldBar")))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .tags(TAGS_CFN)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(model)
+                .build();
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setResourceTags(ImmutableMap.of("oldFoo", "oldBar"));
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).isEqualTo(TAGS_CFN);
+        assertThat(callbackContext.getResourceTags()).isEqualTo(Translator.getTagsSDK(TAGS_CFN));
+        verify(amplifyClient).updateApp(any(UpdateAppRequest.class));
+        verify(amplifyClient).tagResource(any(TagResourceRequest.class));
+        verify(amplifyClient).untagResource(any(UntagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoChangesSkipsUpdate() {
+        when(proxyClient.client().getApp(any(GetAppRequest.class)))
+                .thenReturn(GetAppResponse.builder()
+                        .app(App.builder()
+                                .appArn(APP_ARN)
+                                .appId(APP_ID)
+                                .name(APP_NAME)
+                                .build())
+                        .build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .tags(TAGS_CFN)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(ResourceModel.builder()
+                        .arn(APP_ARN)
+                        .appId(APP_ID)
+                        .name(APP_NAME)
+                        .tags(TAGS_CFN)
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(APP_ARN);
+        verify(amplifyClient, never()).updateApp(any(UpdateAppRequest.class));
+        verify(amplifyClient).getApp(any(GetAppRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UnchangedTagsSkipsTagCalls() {
         when(proxyClient.client().updateApp(any(UpdateAppRequest.class)))
                 .thenReturn(UpdateAppResponse.builder()
                         .app(App.builder()
                                 .appArn(APP_ARN)
                                 .appId(APP_ID)
                                 .name(APP_NAME)
+                                .description("new description")
                                 .build())
                         .build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .description("new description")
+                .buildSpec("version: 1")
+                .customRules(CUSTOM_RULES_CFN)
+                .environmentVariables(ENV_VARS_CFN)
+                .tags(TAGS_CFN)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(ResourceModel.builder()
+                        .arn(APP_ARN)
+                        .appId(APP_ID)
+                        .name(APP_NAME)
+                        .buildSpec("version: 1")
+                        .customRules(CUSTOM_RULES_CFN)
+                        .environmentVariables(ENV_VARS_CFN)
+                        .tags(TAGS_CFN)
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDescription()).isEqualTo("new description");
+
+        // Only the changed property is sent
+        final ArgumentCaptor<UpdateAppRequest> updateAppRequest = ArgumentCaptor.forClass(UpdateAppRequest.class);
+        verify(amplifyClient).updateApp(updateAppRequest.capture());
+        assertThat(updateAppRequest.getValue().appId()).isEqualTo(APP_ID);
+        assertThat(updateAppRequest.getValue().description()).isEqualTo("new description");
+        assertThat(updateAppRequest.getValue().name()).isNull();
+        assertThat(updateAppRequest.getValue().buildSpec()).isNull();
+        assertThat(updateAppRequest.getValue().hasCustomRules()).isFalse();
+        assertThat(updateAppRequest.getValue().hasEnvironmentVariables()).isFalse();
+        verify(amplifyClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(amplifyClient, never()).tagResource(any(TagResourceRequest.class));
+        verify(amplifyClient, never()).untagResource(any(UntagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_IncompleteUpdateResponseFallsBackToRead() {
+        when(proxyClient.client().updateApp(any(UpdateAppRequest.class)))
+                .thenReturn(UpdateAppResponse.builder()
+                        .app(App.builder()
+                                .appArn(APP_ARN)
+                                .appId(APP_ID)
+                                .build())
+                        .build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
         when(proxyClient.client().getApp(any(GetAppRequest.class)))
                 .thenReturn(GetAppResponse.builder()
                         .app(App.builder()
                                 .appArn(APP_ARN)
                                 .appId(APP_ID)
                                 .name(APP_NAME)
-                                .tags(Translator.getTagsSDK(TAGS_CFN))
+                                .build())
+                        .build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .name(APP_NAME)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        final ResourceModel expected = ResourceModel.builder()
+                .arn(APP_ARN)
+                .appId(APP_ID)
+                .appName(APP_NAME)
+                .name(APP_NAME)
+                .build();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expected);
+        verify(amplifyClient).getApp(any(GetAppRequest.class));
+    }
+
+    private void stubProxyClient() {
+        when(proxyClient.client().updateApp(any(UpdateAppRequest.class)))
+                .thenReturn(UpdateAppResponse.builder()
+                        .app(App.builder()
+                                .appArn(APP_ARN)
+                                .appId(APP_ID)
+                                .name(APP_NAME)
                                 .build())
                         .build());
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
@@ -1,7 +1,9 @@
 package software.amazon.amplify.branch;
 
 import lombok.NonNull;
-import software.amazon.amplify.common.utils.ArnUtils;
+import software.amazon.amplify.common.handler.HandlerInvocation;
+import software.amazon.amplify.common.handler.Invocation;
+import software.amazon.amplify.common.utils.AmplifyArn;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.Branch;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -18,19 +20,29 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+    // Read and List must complete synchronously; their throttles surface as CfnThrottlingException
+    final boolean deferThrottles = !(this instanceof ReadHandler || this instanceof ListHandler);
+    return HandlerInvocation.run(getClass(), deferThrottles, proxy, request, context, ClientBuilder::getClient,
+        logger, this::handleRequest);
+  }
+
+  /**
+   * Final stage of a ResourcePipeline: reads the resource and reports it as ReadHandler does
+   * @param invocation the pipeline's invocation
+   * @param progress event of the previous stage
+   * @return the read's event
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> readResource(
+    final Invocation<ResourceModel, CallbackContext> invocation,
+    final ProgressEvent<ResourceModel, CallbackContext> progress) {
+    return new ReadHandler().handleRequest(invocation.getProxy(), invocation.getRequest(),
+        invocation.getCallbackContext(), invocation.getProxyClient(), invocation.getLogger());
   }
 
   protected void setResourceModelId(@NonNull final ResourceModel model, @NonNull final Branch branch) {
-    final String SPLIT_KEY = "/branches/";
     model.setArn(branch.branchArn());
-    model.setAppId(ArnUtils.getAppId(branch.branchArn(), SPLIT_KEY));
+    model.setAppId(AmplifyArn.parse(branch.branchArn(), AmplifyArn.ResourceKind.BRANCH).getAppId());
     model.setBranchName(branch.branchName());
   }
 
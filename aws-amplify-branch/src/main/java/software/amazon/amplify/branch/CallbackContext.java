@@ -2,9 +2,17 @@ package software.amazon.amplify.branch;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.Map;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // Last known tags of the branch, recorded by reads and tag reconciliation to spare a ListTagsForResource call
+    private Map<String, String> resourceTags;
+    // ARN of the branch this create made, checkpointed right after CreateBranch so that a callback resumes at the
+    // final read. It only reaches CloudFormation with a returned event: after a Lambda timeout that follows an
+    // accepted create, the retried CreateBranch fails as AlreadyExists, indistinguishable from a pre-existing branch.
+    private String createdArn;
 }
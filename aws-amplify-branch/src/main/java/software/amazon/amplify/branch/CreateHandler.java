@@ -1,6 +1,8 @@
 package software.amazon.amplify.branch;
 
-import org.apache.commons.lang3.ObjectUtils;
+import software.amazon.amplify.common.handler.Invocation;
+import software.amazon.amplify.common.handler.ResourcePipeline;
+import software.amazon.amplify.common.logging.HandlerLog;
 import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.CreateBranchResponse;
@@ -12,7 +14,12 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final ResourcePipeline<ResourceModel, CallbackContext> pipeline =
+        ResourcePipeline.<ResourceModel, CallbackContext>builder()
+            .validate(this::checkReadOnlyProperties)
+            .mutate(this::createBranch)
+            .project(this::readResource)
+            .build();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -21,32 +28,45 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<AmplifyClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-        final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
+        final Invocation<ResourceModel, CallbackContext> invocation =
+            new Invocation<>(proxy, request, callbackContext, proxyClient, logger);
+        if (callbackContext.getCreatedArn() != null) {
+            HandlerLog.info(logger, "resuming create of %s", callbackContext.getCreatedArn());
+            request.getDesiredResourceState().setArn(callbackContext.getCreatedArn());
+            return readResource(invocation, ProgressEvent.progress(request.getDesiredResourceState(), callbackContext));
+        }
+        return pipeline.run(invocation);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> createBranch(
+        final Invocation<ResourceModel, CallbackContext> invocation,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final AmazonWebServicesClientProxy proxy = invocation.getProxy();
+        final ResourceModel model = invocation.getModel();
+        final CallbackContext callbackContext = invocation.getCallbackContext();
 
+        return proxy.initiate("AWS-Amplify-Branch::Create", invocation.getProxyClient(), model, callbackContext)
+            .translateToServiceRequest(Translator::translateToCreateRequest)
+            .makeServiceCall((createBranchRequest, proxyInvocation) -> {
+                CreateBranchResponse createBranchResponse = ClientWrapper.execute(
+                        proxy,
+                        createBranchRequest,
+                        proxyInvocation.client()::createBranch,
+                        ResourceModel.TYPE_NAME,
+                        model.getArn(),
+                        invocation.getLogger()
+                );
+                setResourceModelId(model, createBranchResponse.branch());
+                callbackContext.setCreatedArn(model.getArn());
+                return createBranchResponse;
+            })
+            .progress();
+    }
+
+    private void checkReadOnlyProperties(final Invocation<ResourceModel, CallbackContext> invocation) {
+        final ResourceModel model = invocation.getModel();
         if (model.getArn() != null) {
             throw new CfnInvalidRequestException(String.format("Attempted to provide value to a read-only property: %s", model.getArn()));
         }
-
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
-                proxy.initiate("AWS-Amplify-Branch::Create", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToCreateRequest)
-                    .makeServiceCall((createBranchRequest, proxyInvocation) -> {
-                        CreateBranchResponse createBranchResponse = (CreateBranchResponse) ClientWrapper.execute(
-                                proxy,
-                                createBranchRequest,
-                                proxyInvocation.client()::createBranch,
-                                ResourceModel.TYPE_NAME,
-                                model.getArn(),
-                                logger
-                        );
-                        setResourceModelId(model, createBranchResponse.branch());
-                        return createBranchResponse;
-                    })
-                    .progress()
-               )
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 }
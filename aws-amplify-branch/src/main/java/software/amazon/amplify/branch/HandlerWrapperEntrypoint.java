@@ -0,0 +1,22 @@
+package software.amazon.amplify.branch;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import software.amazon.amplify.common.retry.InvocationDeadline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Lambda entrypoint: runs the generated HandlerWrapper with the invocation deadline capped by the Lambda's
+ * remaining time, which the handlers themselves never see.
+ */
+public class HandlerWrapperEntrypoint extends HandlerWrapper {
+  @Override
+  public void handleRequest(final InputStream inputStream,
+                            final OutputStream outputStream,
+                            final Context context) throws IOException {
+    InvocationDeadline.withRemainingTime(context.getRemainingTimeInMillis(),
+        () -> super.handleRequest(inputStream, outputStream, context));
+  }
+}
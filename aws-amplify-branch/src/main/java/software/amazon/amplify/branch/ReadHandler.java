@@ -1,9 +1,9 @@
 package software.amazon.amplify.branch;
 
 
+import software.amazon.amplify.common.logging.HandlerLog;
 import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
-import software.amazon.awssdk.services.amplify.model.GetBranchResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -22,11 +22,11 @@ public class ReadHandler extends BaseHandlerStd {
 
         this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
+        HandlerLog.info(logger, "requesting with model: %s", HandlerLog.redacted(model));
 
         return proxy.initiate("AWS-Amplify-Branch::Read", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall((getBranchRequest, proxyInvocation) -> (GetBranchResponse) ClientWrapper.execute(
+                .makeServiceCall((getBranchRequest, proxyInvocation) -> ClientWrapper.executeCached(
                         proxy,
                         getBranchRequest,
                         proxyInvocation.client()::getBranch,
@@ -35,8 +35,11 @@ public class ReadHandler extends BaseHandlerStd {
                         logger
                 ))
                 .done(getBranchResponse -> {
+                    if (getBranchResponse.branch().hasTags()) {
+                        callbackContext.setResourceTags(getBranchResponse.branch().tags());
+                    }
                     ResourceModel modelRet = Translator.translateFromReadResponse(getBranchResponse);
-                    logger.log("INFO: returning model: " + modelRet);
+                    HandlerLog.info(logger, "returning model: %s", HandlerLog.redacted(modelRet));
                     return ProgressEvent.defaultSuccessHandler(modelRet);
                 });
     }
@@ -2,7 +2,8 @@ package software.amazon.amplify.branch;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
-import software.amazon.amplify.common.utils.ArnUtils;
+import software.amazon.amplify.common.utils.AmplifyArn;
+import software.amazon.amplify.common.utils.ModelDiff;
 import software.amazon.awssdk.services.amplify.model.Branch;
 import software.amazon.awssdk.services.amplify.model.CreateBranchRequest;
 import software.amazon.awssdk.services.amplify.model.DeleteBranchRequest;
@@ -10,7 +11,6 @@ import software.amazon.awssdk.services.amplify.model.GetBranchRequest;
 import software.amazon.awssdk.services.amplify.model.GetBranchResponse;
 import software.amazon.awssdk.services.amplify.model.ListBranchesRequest;
 import software.amazon.awssdk.services.amplify.model.ListBranchesResponse;
-import software.amazon.awssdk.services.amplify.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.amplify.model.UpdateBranchRequest;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,7 +34,32 @@ import java.util.stream.Stream;
  */
 
 public class Translator {
-  private static final String ARN_SPLIT_KEY = "/branches/";
+  // Largest maxResults ListBranches accepts
+  static final int LIST_PAGE_SIZE = 50;
+
+  static final String BASIC_AUTH_CONFIG = "BasicAuthConfig";
+  static final String BUILD_SPEC = "BuildSpec";
+  static final String DESCRIPTION = "Description";
+  static final String ENABLE_AUTO_BUILD = "EnableAutoBuild";
+  static final String ENABLE_PERFORMANCE_MODE = "EnablePerformanceMode";
+  static final String ENABLE_PULL_REQUEST_PREVIEW = "EnablePullRequestPreview";
+  static final String ENVIRONMENT_VARIABLES = "EnvironmentVariables";
+  static final String PULL_REQUEST_ENVIRONMENT_NAME = "PullRequestEnvironmentName";
+  static final String STAGE = "Stage";
+  static final String TAGS = "Tags";
+  // Properties that can change in place; read-only and create-only properties are excluded
+  static final ModelDiff<ResourceModel> MODEL_DIFF = ModelDiff.<ResourceModel>builder()
+          .property(BASIC_AUTH_CONFIG, ResourceModel::getBasicAuthConfig)
+          .property(BUILD_SPEC, ResourceModel::getBuildSpec)
+          .property(DESCRIPTION, ResourceModel::getDescription)
+          .property(ENABLE_AUTO_BUILD, ResourceModel::getEnableAutoBuild)
+          .property(ENABLE_PERFORMANCE_MODE, ResourceModel::getEnablePerformanceMode)
+          .property(ENABLE_PULL_REQUEST_PREVIEW, ResourceModel::getEnablePullRequestPreview)
+          .property(ENVIRONMENT_VARIABLES, ResourceModel::getEnvironmentVariables)
+          .property(PULL_REQUEST_ENVIRONMENT_NAME, ResourceModel::getPullRequestEnvironmentName)
+          .property(STAGE, ResourceModel::getStage)
+          .property(TAGS, ResourceModel::getTags)
+          .build();
 
   /**
    * Request to create a resource
@@ -92,7 +118,7 @@ public class Translator {
     final Branch branch = getBranchResponse.branch();
 
     ResourceModel.ResourceModelBuilder branchModelBuilder = ResourceModel.builder()
-            .appId(ArnUtils.getAppId(branch.branchArn(), ARN_SPLIT_KEY))
+            .appId(AmplifyArn.parse(branch.branchArn(), AmplifyArn.ResourceKind.BRANCH).getAppId())
             .arn(branch.branchArn())
             .branchName(branch.branchName())
             .buildSpec(branch.buildSpec())
@@ -129,29 +155,44 @@ public class Translator {
   }
 
   /**
-   * Request to update properties of a previously created resource
+   * Request to update properties of a previously created resource, carrying only the properties that changed
    * @param model resource model
+   * @param changedProperties names of the properties that differ from the previous resource state
    * @return updateBranchRequest the aws service request to modify a resource
    */
-  static UpdateBranchRequest translateToUpdateRequest(final ResourceModel model) {
+  static UpdateBranchRequest translateToUpdateRequest(final ResourceModel model, final Set<String> changedProperties) {
     initializeModel(model);
     final UpdateBranchRequest.Builder updateBranchRequest = UpdateBranchRequest.builder()
             .appId(model.getAppId())
-            .branchName(model.getBranchName())
-            .buildSpec(model.getBuildSpec())
-            .description(model.getDescription())
-            .enableAutoBuild(model.getEnableAutoBuild())
-            .enablePerformanceMode(model.getEnablePerformanceMode())
-            .enablePullRequestPreview(model.getEnablePullRequestPreview())
-            .pullRequestEnvironmentName(model.getPullRequestEnvironmentName())
-            .stage(model.getStage());
+            .branchName(model.getBranchName());
 
+    if (changedProperties.contains(BUILD_SPEC)) {
+      updateBranchRequest.buildSpec(model.getBuildSpec());
+    }
+    if (changedProperties.contains(DESCRIPTION)) {
+      updateBranchRequest.description(model.getDescription());
+    }
+    if (changedProperties.contains(ENABLE_AUTO_BUILD)) {
+      updateBranchRequest.enableAutoBuild(model.getEnableAutoBuild());
+    }
+    if (changedProperties.contains(ENABLE_PERFORMANCE_MODE)) {
+      updateBranchRequest.enablePerformanceMode(model.getEnablePerformanceMode());
+    }
+    if (changedProperties.contains(ENABLE_PULL_REQUEST_PREVIEW)) {
+      updateBranchRequest.enablePullRequestPreview(model.getEnablePullRequestPreview());
+    }
+    if (changedProperties.contains(PULL_REQUEST_ENVIRONMENT_NAME)) {
+      updateBranchRequest.pullRequestEnvironmentName(model.getPullRequestEnvironmentName());
+    }
+    if (changedProperties.contains(STAGE)) {
+      updateBranchRequest.stage(model.getStage());
+    }
     List<EnvironmentVariable> environmentVariables = model.getEnvironmentVariables();
-    if (environmentVariables != null) {
+    if (environmentVariables != null && changedProperties.contains(ENVIRONMENT_VARIABLES)) {
       updateBranchRequest.environmentVariables(getEnvironmentVariablesSDK(environmentVariables));
     }
     BasicAuthConfig basicAuthConfig = model.getBasicAuthConfig();
-    if (basicAuthConfig != null) {
+    if (basicAuthConfig != null && changedProperties.contains(BASIC_AUTH_CONFIG)) {
       updateBranchRequest.enableBasicAuth(basicAuthConfig.getEnableBasicAuth());
       updateBranchRequest.basicAuthCredentials(getBasicAuthCredentialsSDK(basicAuthConfig));
     }
@@ -165,6 +206,7 @@ public class Translator {
    */
   static ListBranchesRequest translateToListRequest(final ResourceModel model, String nextToken) {
     return ListBranchesRequest.builder()
+            .maxResults(LIST_PAGE_SIZE)
             .appId(model.getAppId())
             .nextToken(nextToken)
             .build();
@@ -183,17 +225,6 @@ public class Translator {
         .collect(Collectors.toList());
   }
 
-  /**
-   * Request to list tags
-   * @param arn string
-   * @return listTagsForResourceRequest
-   */
-  static ListTagsForResourceRequest translateToListTagsForResourceRequest(final String arn) {
-    return ListTagsForResourceRequest.builder()
-            .resourceArn(arn)
-            .build();
-  }
-
   /*
    * Helpers
    */
@@ -203,8 +234,9 @@ public class Translator {
       if (arn == null) {
         throw new CfnNotFoundException(ResourceModel.TYPE_NAME, null);
       }
-      model.setAppId(ArnUtils.getAppId(arn, ARN_SPLIT_KEY));
-      model.setBranchName(ArnUtils.getResourceName(arn, ARN_SPLIT_KEY));
+      final AmplifyArn branchArn = AmplifyArn.parse(arn, AmplifyArn.ResourceKind.BRANCH);
+      model.setAppId(branchArn.getAppId());
+      model.setBranchName(branchArn.getResourceName());
     }
   }
 
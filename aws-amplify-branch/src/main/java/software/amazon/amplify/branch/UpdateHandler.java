@@ -1,15 +1,11 @@
 package software.amazon.amplify.branch;
 
-import com.google.common.collect.Sets;
-import org.apache.commons.collections.MapUtils;
+import software.amazon.amplify.common.handler.Invocation;
+import software.amazon.amplify.common.handler.ResourcePipeline;
 import software.amazon.amplify.common.utils.ClientWrapper;
+import software.amazon.amplify.common.utils.TagReconciler;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
-import software.amazon.awssdk.services.amplify.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.amplify.model.ListTagsForResourceResponse;
-import software.amazon.awssdk.services.amplify.model.TagResourceRequest;
-import software.amazon.awssdk.services.amplify.model.UntagResourceRequest;
 import software.amazon.awssdk.services.amplify.model.UpdateBranchResponse;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -17,13 +13,22 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private static final Set<String> TAGS_ONLY = Collections.singleton(Translator.TAGS);
+
+    private final ResourcePipeline<ResourceModel, CallbackContext> pipeline =
+        ResourcePipeline.<ResourceModel, CallbackContext>builder()
+            .diff(Translator.MODEL_DIFF)
+            .mutate(this::updateBranch)
+            .tag(this::updateTags)
+            .project(this::readResource)
+            .build();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -32,76 +37,72 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<AmplifyClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-        final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
-
-        return ProgressEvent.progress(model, callbackContext)
-            .then(progress ->
-                proxy.initiate("AWS-Amplify-Branch::Update", proxyClient, model, progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::translateToUpdateRequest)
-                    .makeServiceCall((updateBranchRequest, proxyInvocation) -> {
-                        UpdateBranchResponse updateBranchResponse = (UpdateBranchResponse) ClientWrapper.execute(
-                                proxy,
-                                updateBranchRequest,
-                                proxyInvocation.client()::updateBranch,
-                                ResourceModel.TYPE_NAME,
-                                model.getArn(),
-                                logger
-                        );
-                        setResourceModelId(model, updateBranchResponse.branch());
-                        updateTags(proxy, proxyClient, model, convertToResourceTags(model.getTags()));
-                        return updateBranchResponse;
-                    })
-                    .progress()
-            )
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+        return pipeline.run(new Invocation<>(proxy, request, callbackContext, proxyClient, logger));
     }
 
-    private void updateTags(final AmazonWebServicesClientProxy proxy,
-                            final ProxyClient<AmplifyClient> proxyClient,
-                            final ResourceModel model,
-                            final Map<String, String> desiredTags) {
-        logger.log("INFO: Modifying Tags");
-        final Set<Tag> finalTags = convertResourceTagsToSet(desiredTags);
-        final Set<Tag> existingTags = getExistingTags(proxy, proxyClient, model);
-
-        final Set<Tag> tagsToRemove = Sets.difference(existingTags, finalTags);
-        final Set<Tag> tagsToAdd = Sets.difference(finalTags, existingTags);
-
-        if (tagsToRemove.size() > 0) {
-            Collection<String> tagKeys = tagsToRemove.stream().map(Tag::getKey).collect(Collectors.toSet());
-            final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder().resourceArn(model.getArn())
-                    .tagKeys(tagKeys).build();
-            ClientWrapper.execute(proxy, untagResourceRequest, proxyClient.client()::untagResource, ResourceModel.TYPE_NAME,
-                    model.getAppId(), logger);
-        }
+    private ProgressEvent<ResourceModel, CallbackContext> updateBranch(
+        final Invocation<ResourceModel, CallbackContext> invocation,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final AmazonWebServicesClientProxy proxy = invocation.getProxy();
+        final ResourceModel model = invocation.getModel();
+        final CallbackContext callbackContext = invocation.getCallbackContext();
+        final Set<String> changedProperties = invocation.getChangedProperties();
 
-        if (tagsToAdd.size() > 0) {
-            Map<String, String> tags = convertToResourceTags(tagsToAdd);
-            final TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
-                    .resourceArn(model.getArn()).tags(tags).build();
-            ClientWrapper.execute(proxy, tagResourceRequest, proxyClient.client()::tagResource, ResourceModel.TYPE_NAME,
-                    model.getAppId(), logger);
-        }
-        logger.log("INFO: Successfully Updated Tags");
+        return proxy.initiate("AWS-Amplify-Branch::Update", invocation.getProxyClient(), model, callbackContext)
+            .translateToServiceRequest(resourceModel -> Translator.translateToUpdateRequest(resourceModel, changedProperties))
+            .makeServiceCall((updateBranchRequest, proxyInvocation) -> {
+                final Supplier<UpdateBranchResponse> updateBranch = () -> ClientWrapper.execute(
+                        proxy,
+                        updateBranchRequest,
+                        proxyInvocation.client()::updateBranch,
+                        ResourceModel.TYPE_NAME,
+                        model.getArn(),
+                        invocation.getLogger()
+                );
+                final UpdateBranchResponse updateBranchResponse;
+                if (TAGS_ONLY.equals(changedProperties) && model.getArn() != null) {
+                    // Branch properties are unchanged, so UpdateBranch does not depend on the tag calls
+                    updateBranchResponse = updateTagsAlongside(updateBranch, invocation);
+                } else {
+                    updateBranchResponse = updateBranch.get();
+                    // UpdateBranch returns the current tags, so ListTagsForResource is only needed when they are absent
+                    if (updateBranchResponse.branch().hasTags()) {
+                        callbackContext.setResourceTags(updateBranchResponse.branch().tags());
+                    }
+                }
+                setResourceModelId(model, updateBranchResponse.branch());
+                return updateBranchResponse;
+            })
+            .progress();
     }
 
-    private Set<Tag> getExistingTags(final AmazonWebServicesClientProxy proxy,
-                                     final ProxyClient<AmplifyClient> proxyClient,
-                                     final ResourceModel model) {
-        ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsForResourceRequest(model.getArn());
-        ListTagsForResourceResponse listTagsForResourceResponse = (ListTagsForResourceResponse) ClientWrapper.execute(proxy,
-                listTagsForResourceRequest, proxyClient.client()::listTagsForResource, ResourceModel.TYPE_NAME, model.getAppId(), logger);
-        return convertResourceTagsToSet(listTagsForResourceResponse.tags());
+    private ProgressEvent<ResourceModel, CallbackContext> updateTags(
+        final Invocation<ResourceModel, CallbackContext> invocation,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ResourceModel model = invocation.getModel();
+        final CallbackContext callbackContext = invocation.getCallbackContext();
+        final Map<String, String> desiredTags = convertToResourceTags(model.getTags());
+        // Nothing to do when Tags did not change, or were already reconciled alongside UpdateBranch
+        if (!invocation.getChangedProperties().contains(Translator.TAGS)
+                || desiredTags.equals(callbackContext.getResourceTags())) {
+            return progress;
+        }
+        callbackContext.setResourceTags(TagReconciler.reconcile(invocation.getProxy(), invocation.getProxyClient(),
+                model.getArn(), callbackContext.getResourceTags(), desiredTags, ResourceModel.TYPE_NAME,
+                model.getAppId(), invocation.getLogger()));
+        return progress;
     }
 
-    private static Set<Tag> convertResourceTagsToSet(final Map<String, String> resourceTags) {
-        final Set<Tag> tagSet = Sets.newHashSet();
-        if (MapUtils.isNotEmpty(resourceTags)) {
-            resourceTags.forEach((key, value) -> tagSet.add(Tag.builder().key(key).value(value).build()));
-        }
-        return tagSet;
+    private UpdateBranchResponse updateTagsAlongside(final Supplier<UpdateBranchResponse> updateBranch,
+                                                     final Invocation<ResourceModel, CallbackContext> invocation) {
+        final ResourceModel model = invocation.getModel();
+        final CallbackContext callbackContext = invocation.getCallbackContext();
+        final Map<String, String> desiredTags = convertToResourceTags(model.getTags());
+        final UpdateBranchResponse updateBranchResponse = TagReconciler.reconcileAlongside(updateBranch,
+                invocation.getProxy(), invocation.getProxyClient(), model.getArn(), callbackContext.getResourceTags(),
+                desiredTags, ResourceModel.TYPE_NAME, model.getAppId(), invocation.getLogger());
+        callbackContext.setResourceTags(desiredTags);
+        return updateBranchResponse;
     }
 
     private static Map<String, String> convertToResourceTags(final Collection<Tag> tagSet) {
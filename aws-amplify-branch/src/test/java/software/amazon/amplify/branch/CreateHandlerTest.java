@@ -4,6 +4,7 @@ import java.time.Duration;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.TestInfo;
+import software.amazon.amplify.common.throttling.ThrottleRecovery;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.App;
 import software.amazon.awssdk.services.amplify.model.Branch;
@@ -13,8 +14,11 @@ import software.amazon.awssdk.services.amplify.model.GetAppRequest;
 import software.amazon.awssdk.services.amplify.model.GetAppResponse;
 import software.amazon.awssdk.services.amplify.model.GetBranchRequest;
 import software.amazon.awssdk.services.amplify.model.GetBranchResponse;
+import software.amazon.awssdk.services.amplify.model.LimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -31,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -175,6 +180,94 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .hasMessageContaining("Attempted to provide value to a read-only property");
     }
 
+    @Test
+    public void handleRequest_CallbackWithCreatedArnSkipsCreate() {
+        final Branch branchMock = Branch.builder().branchArn(BRANCH_ARN).branchName(BRANCH_NAME).build();
+        when(proxyClient.client().createBranch(any(CreateBranchRequest.class)))
+                .thenReturn(CreateBranchResponse.builder().branch(branchMock).build());
+        stubProxyClientGet();
+        final CreateHandler handler = new CreateHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).branchName(BRANCH_NAME).build())
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+        handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        assertThat(callbackContext.getCreatedArn()).isEqualTo(BRANCH_ARN);
+
+        // A callback, e.g. after a deferred throttle, is deserialized with the checkpoint and goes straight to the read
+        final CallbackContext resumedContext = new CallbackContext();
+        resumedContext.setCreatedArn(callbackContext.getCreatedArn());
+        final ResourceHandlerRequest<ResourceModel> callback = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().appId(APP_ID).branchName(BRANCH_NAME).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, callback,
+                resumedContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(BRANCH_ARN);
+        verify(sdkClient, times(1)).createBranch(any(CreateBranchRequest.class));
+        verify(sdkClient, times(2)).getBranch(any(GetBranchRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ThrottledCreateIsDeferred() {
+        final Branch branchMock = Branch.builder().branchArn(BRANCH_ARN).branchName(BRANCH_NAME).build();
+        when(proxyClient.client().createBranch(any(CreateBranchRequest.class)))
+                .thenThrow(LimitExceededException.builder().statusCode(429).message("Rate exceeded").build())
+                .thenThrow(LimitExceededException.builder().statusCode(429).message("Rate exceeded").build())
+                .thenReturn(CreateBranchResponse.builder().branch(branchMock).build());
+        when(proxyClient.client().getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder().branch(branchMock).build());
+        final CreateHandler handler = new CreateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnThrottlingException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deferred = ThrottleRecovery.deferOnThrottle(
+                () -> handler.handleRequest(proxy, request, callbackContext, proxyClient, logger), model, callbackContext);
+        assertThat(deferred.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(deferred.getCallbackDelaySeconds()).isBetween(2, 5);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = ThrottleRecovery.deferOnThrottle(
+                () -> handler.handleRequest(proxy, request, deferred.getCallbackContext(), proxyClient, logger),
+                model, deferred.getCallbackContext());
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(BRANCH_ARN);
+    }
+
+    @Test
+    public void handleRequest_QuotaExceededIsNotTreatedAsThrottle() {
+        when(proxyClient.client().createBranch(any(CreateBranchRequest.class)))
+                .thenThrow(LimitExceededException.builder().statusCode(429)
+                        .message("The maximum number of branches for the app has been reached").build());
+        final CreateHandler handler = new CreateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        assertThatThrownBy(() -> ThrottleRecovery.deferOnThrottle(
+                () -> handler.handleRequest(proxy, request, callbackContext, proxyClient, logger),
+                model, callbackContext))
+                .isInstanceOf(CfnServiceLimitExceededException.class);
+    }
+
     private void stubProxyClientGet() {
         Branch branchMock = Branch.builder().branchArn(BRANCH_ARN).branchName(BRANCH_NAME).build();
         GetBranchResponse getBranchResponseMock = GetBranchResponse.builder().branch(branchMock).build();
@@ -5,6 +5,7 @@ import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.Branch;
 import software.amazon.awssdk.services.amplify.model.GetBranchRequest;
 import software.amazon.awssdk.services.amplify.model.GetBranchResponse;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -18,7 +19,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
@@ -88,4 +91,41 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_IdentifiesBranchFromArn() {
+        final ReadHandler handler = new ReadHandler();
+        final String branchName = "feature/login";
+        final String branchArn = String.format("arn:aws:amplify:region:accountId:apps/%s/branches/%s", APP_ID, branchName);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().arn(branchArn).build())
+            .build();
+
+        when(proxyClient.client().getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder()
+                        .branch(Branch.builder()
+                                .branchArn(branchArn)
+                                .branchName(branchName)
+                                .build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAppId()).isEqualTo(APP_ID);
+        assertThat(response.getResourceModel().getBranchName()).isEqualTo(branchName);
+        verify(sdkClient).getBranch(argThat((GetBranchRequest getBranchRequest) ->
+                APP_ID.equals(getBranchRequest.appId()) && branchName.equals(getBranchRequest.branchName())));
+
+        // A Domain ARN does not identify a Branch
+        final ResourceHandlerRequest<ResourceModel> domainArnRequest = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                    .arn(String.format("arn:aws:amplify:region:accountId:apps/%s/domains/example.com", APP_ID))
+                    .build())
+            .build();
+        assertThatThrownBy(() -> handler.handleRequest(proxy, domainArnRequest, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnInvalidRequestException.class);
+    }
 }
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -95,6 +96,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -147,6 +149,95 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(sdkClient, never()).untagResource(any(UntagResourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_NoChangesSkipsUpdate() {
+        when(proxyClient.client().getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder()
+                        .branch(Branch.builder()
+                                .branchArn(BRANCH_ARN)
+                                .branchName(BRANCH_NAME)
+                                .build())
+                        .build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .environmentVariables(ENV_VARS_CFN)
+                .tags(TAGS_CFN)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(ResourceModel.builder()
+                        .appId(APP_ID)
+                        .branchName(BRANCH_NAME)
+                        .environmentVariables(ENV_VARS_CFN)
+                        .tags(TAGS_CFN)
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(BRANCH_ARN);
+        verify(sdkClient, never()).updateBranch(any(UpdateBranchRequest.class));
+        verify(sdkClient).getBranch(any(GetBranchRequest.class));
+    }
+
+    @Test
+    public void handleRequest_UnchangedTagsSkipsTagCalls() {
+        final Branch branch = Branch.builder()
+                .branchArn(BRANCH_ARN)
+                .branchName(BRANCH_NAME)
+                .stage("PRODUCTION")
+                .build();
+        when(proxyClient.client().updateBranch(any(UpdateBranchRequest.class)))
+                .thenReturn(UpdateBranchResponse.builder().branch(branch).build());
+        when(proxyClient.client().getBranch(any(GetBranchRequest.class)))
+                .thenReturn(GetBranchResponse.builder().branch(branch).build());
+
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .branchName(BRANCH_NAME)
+                .stage("PRODUCTION")
+                .environmentVariables(ENV_VARS_CFN)
+                .tags(TAGS_CFN)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(ResourceModel.builder()
+                        .appId(APP_ID)
+                        .branchName(BRANCH_NAME)
+                        .environmentVariables(ENV_VARS_CFN)
+                        .tags(TAGS_CFN)
+                        .build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        // Only the changed property is sent
+        final ArgumentCaptor<UpdateBranchRequest> updateBranchRequest = ArgumentCaptor.forClass(UpdateBranchRequest.class);
+        verify(sdkClient).updateBranch(updateBranchRequest.capture());
+        assertThat(updateBranchRequest.getValue().branchName()).isEqualTo(BRANCH_NAME);
+        assertThat(updateBranchRequest.getValue().stageAsString()).isEqualTo("PRODUCTION");
+        assertThat(updateBranchRequest.getValue().description()).isNull();
+        assertThat(updateBranchRequest.getValue().hasEnvironmentVariables()).isFalse();
+        verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(sdkClient, never()).tagResource(any(TagResourceRequest.class));
+        verify(sdkClient, never()).untagResource(any(UntagResourceRequest.class));
+    }
+
     private void stubProxyClient() {
         Branch branchMock = Branch.builder()
                 .branchArn(BRANCH_ARN)
@@ -155,13 +246,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .tags(Translator.getTagsSDK(TAGS_CFN))
                 .build();
         when(proxyClient.client().updateBranch(any(UpdateBranchRequest.class)))
-                .thenReturn(UpdateBranchResponse.builder().branch(branchMock).build());
+                .thenReturn(UpdateBranchResponse.builder()
+                        .branch(branchMock.toBuilder().tags(ImmutableMap.of("oldFoo", "oldBar")).build())
+                        .build());
         when(proxyClient.client().getBranch(any(GetBranchRequest.class)))
                 .thenReturn(GetBranchResponse.builder().branch(branchMock).build());
-        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
-                .thenReturn(ListTagsForResourceResponse.builder()
-                        .tags(ImmutableMap.of("oldFoo", "oldBar"))
-                        .build());
         when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
         when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
     }
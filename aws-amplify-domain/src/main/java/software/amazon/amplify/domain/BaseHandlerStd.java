@@ -2,7 +2,10 @@ package software.amazon.amplify.domain;
 
 import lombok.NonNull;
 import org.apache.commons.lang3.ObjectUtils;
-import software.amazon.amplify.common.utils.ArnUtils;
+import software.amazon.amplify.common.handler.HandlerInvocation;
+import software.amazon.amplify.common.handler.Invocation;
+import software.amazon.amplify.common.logging.HandlerLog;
+import software.amazon.amplify.common.utils.AmplifyArn;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.Branch;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
@@ -11,12 +14,15 @@ import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRespons
 import software.amazon.awssdk.services.amplify.model.NotFoundException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.function.BooleanSupplier;
+
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -24,13 +30,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+    // Read and List must complete synchronously; their throttles surface as CfnThrottlingException
+    final boolean deferThrottles = !(this instanceof ReadHandler || this instanceof ListHandler);
+    return HandlerInvocation.run(getClass(), deferThrottles, proxy, request, context, ClientBuilder::getClient,
+        logger, this::handleRequest);
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -45,15 +49,15 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                                                                Logger logger) {
     GetDomainAssociationResponse response = null;
     try {
-      logger.log(String.format("Checking if %s already exists for appId: %s, domainName: %s",
-              ResourceModel.TYPE_NAME, model.getAppId(), model.getDomainName()));
+      HandlerLog.info(logger, "Checking if %s already exists for appId: %s, domainName: %s",
+              ResourceModel.TYPE_NAME, model.getAppId(), model.getDomainName());
       response = client.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), client.client()::getDomainAssociation);
     } catch (final NotFoundException e) {
       // proceed
     } catch (final Exception e) {
       throw new CfnGeneralServiceException(ResourceModel.TYPE_NAME, e);
     }
-    logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
+    HandlerLog.info(logger, "%s has successfully been read.", ResourceModel.TYPE_NAME);
     if (response != null) {
       throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, model.getDomainName());
     }
@@ -61,10 +65,43 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return response;
   }
 
+  /**
+   * Polls for stabilization once. Rather than waiting inside the invocation, a resource that has not stabilized
+   * is handed back to CloudFormation as IN_PROGRESS with the delay chosen by StabilizationBackoff.
+   * @param model resource model
+   * @param callbackContext context checkpointing the stabilization progress
+   * @param isStabilized single poll, recording the status it saw
+   * @return progress event to continue the chain with, or an IN_PROGRESS event carrying the callback delay
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> awaitStabilization(final ResourceModel model,
+                                                                             final CallbackContext callbackContext,
+                                                                             final BooleanSupplier isStabilized) {
+    if (isStabilized.getAsBoolean()) {
+      return ProgressEvent.progress(model, callbackContext);
+    }
+    final int delaySeconds = new StabilizationBackoff(callbackContext).nextDelaySeconds();
+    if (delaySeconds == 0) {
+      throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getArn());
+    }
+    return ProgressEvent.defaultInProgressHandler(callbackContext, delaySeconds, model);
+  }
+
+  /**
+   * Final stage of a ResourcePipeline: reads the resource and reports it as ReadHandler does
+   * @param invocation the pipeline's invocation
+   * @param progress event of the previous stage
+   * @return the read's event
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> readResource(
+    final Invocation<ResourceModel, CallbackContext> invocation,
+    final ProgressEvent<ResourceModel, CallbackContext> progress) {
+    return new ReadHandler().handleRequest(invocation.getProxy(), invocation.getRequest(),
+        invocation.getCallbackContext(), invocation.getProxyClient(), invocation.getLogger());
+  }
+
   protected void setResourceModelId(@NonNull final ResourceModel model, @NonNull final DomainAssociation domainAssociation) {
-    final String SPLIT_KEY = "/domains/";
     model.setArn(domainAssociation.domainAssociationArn());
-    model.setAppId(ArnUtils.getAppId(domainAssociation.domainAssociationArn(), SPLIT_KEY));
+    model.setAppId(AmplifyArn.parse(domainAssociation.domainAssociationArn(), AmplifyArn.ResourceKind.DOMAIN).getAppId());
     model.setDomainName(domainAssociation.domainName());
   }
 }
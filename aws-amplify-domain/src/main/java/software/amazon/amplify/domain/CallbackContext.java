@@ -7,4 +7,11 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // Stabilization checkpoint, carried across re-invocations: when the first poll happened, total polls,
+    // last polled domain status, consecutive polls that returned it and the delay requested before the next poll
+    private Long stabilizationStartTime;
+    private int stabilizationAttempts;
+    private String stabilizationStatus;
+    private int stabilizationStatusAttempts;
+    private int stabilizationDelaySeconds;
 }
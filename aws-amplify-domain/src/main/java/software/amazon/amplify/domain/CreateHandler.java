@@ -1,6 +1,9 @@
 package software.amazon.amplify.domain;
 
 import org.apache.commons.lang3.ObjectUtils;
+import software.amazon.amplify.common.handler.Invocation;
+import software.amazon.amplify.common.handler.ResourcePipeline;
+import software.amazon.amplify.common.logging.HandlerLog;
 import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationResponse;
@@ -18,7 +21,28 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
+    // Opt-in GetDomainAssociation probe before CreateDomainAssociation. The create call itself reports an existing
+    // association, which ClientWrapper maps to CfnAlreadyExistsException, so the probe is off by default.
+    static final String EXISTENCE_PROBE_ENV = "AMPLIFY_DOMAIN_CREATE_EXISTENCE_PROBE";
+
+    private final boolean probeBeforeCreate;
+    private final ResourcePipeline<ResourceModel, CallbackContext> pipeline =
+        ResourcePipeline.<ResourceModel, CallbackContext>builder()
+            .validate(this::checkReadOnlyProperties)
+            .mutate(this::createDomainAssociation)
+            .stabilize((invocation, progress) -> awaitStabilization(invocation.getModel(), progress.getCallbackContext(),
+                    () -> isStabilized(invocation.getProxy(), invocation.getProxyClient(), invocation.getModel(),
+                            progress.getCallbackContext(), invocation.getLogger())))
+            .project(this::readResource)
+            .build();
+
+    public CreateHandler() {
+        this(Boolean.parseBoolean(System.getenv(EXISTENCE_PROBE_ENV)));
+    }
+
+    CreateHandler(final boolean probeBeforeCreate) {
+        this.probeBeforeCreate = probeBeforeCreate;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -27,53 +51,61 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<AmplifyClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-        final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
+        return pipeline.run(new Invocation<>(proxy, request, callbackContext, proxyClient, logger));
+    }
 
-        // Make sure the user isn't trying to assign values to read-only properties
-        String disallowedVal = checkReadOnlyProperties(model);
-        if (disallowedVal != null) {
-            throw new CfnInvalidRequestException(String.format("Attempted to provide value to a read-only property: %s", disallowedVal));
-        }
+    private ProgressEvent<ResourceModel, CallbackContext> createDomainAssociation(
+        final Invocation<ResourceModel, CallbackContext> invocation,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final AmazonWebServicesClientProxy proxy = invocation.getProxy();
+        final ProxyClient<AmplifyClient> proxyClient = invocation.getProxyClient();
+        final ResourceModel model = invocation.getModel();
+        final Logger logger = invocation.getLogger();
 
-        return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
-                    proxy.initiate("AWS-Amplify-Domain::Create", proxyClient,progress.getResourceModel(),
-                            progress.getCallbackContext())
-                        .translateToServiceRequest(Translator::translateToCreateRequest)
-                        .makeServiceCall((createDomainAssociationRequest, proxyInvocation) -> {
-                            checkIfResourceExists(model, proxyClient, logger);
-                            CreateDomainAssociationResponse createDomainAssociationResponse = (CreateDomainAssociationResponse) ClientWrapper.execute(
-                                    proxy,
-                                    createDomainAssociationRequest,
-                                    proxyInvocation.client()::createDomainAssociation,
-                                    ResourceModel.TYPE_NAME,
-                                    model.getArn(),
-                                    logger
-                            );
-                            setResourceModelId(model, createDomainAssociationResponse.domainAssociation());
-                            return createDomainAssociationResponse;
-                        })
-                        .stabilize((awsRequest, awsResponse, client, resourceModel, context) -> isStabilized(proxy, proxyClient,
-                                model, logger))
-                        .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+        return proxy.initiate("AWS-Amplify-Domain::Create", proxyClient, progress.getResourceModel(),
+                progress.getCallbackContext())
+            .translateToServiceRequest(Translator::translateToCreateRequest)
+            .makeServiceCall((createDomainAssociationRequest, proxyInvocation) -> {
+                if (probeBeforeCreate) {
+                    checkIfResourceExists(model, proxyClient, logger);
+                }
+                CreateDomainAssociationResponse createDomainAssociationResponse = ClientWrapper.execute(
+                        proxy,
+                        createDomainAssociationRequest,
+                        proxyInvocation.client()::createDomainAssociation,
+                        ResourceModel.TYPE_NAME,
+                        model.getDomainName(),
+                        logger
+                );
+                setResourceModelId(model, createDomainAssociationResponse.domainAssociation());
+                return createDomainAssociationResponse;
+            })
+            .progress();
     }
 
-    private String checkReadOnlyProperties(final ResourceModel model) {
-        return ObjectUtils.firstNonNull(model.getDomainStatus(), model.getStatusReason(), model.getCertificateRecord());
+    // Make sure the user isn't trying to assign values to read-only properties. Only the first invocation
+    // carries the template's values; callbacks carry the model this handler already filled in.
+    private void checkReadOnlyProperties(final Invocation<ResourceModel, CallbackContext> invocation) {
+        if (!invocation.getCallbackContext().callGraphs().isEmpty()) {
+            return;
+        }
+        final ResourceModel model = invocation.getModel();
+        String disallowedVal = ObjectUtils.firstNonNull(model.getDomainStatus(), model.getStatusReason(), model.getCertificateRecord());
+        if (disallowedVal != null) {
+            throw new CfnInvalidRequestException(String.format("Attempted to provide value to a read-only property: %s", disallowedVal));
+        }
     }
 
     private boolean isStabilized(final AmazonWebServicesClientProxy proxy,
                                 final ProxyClient<AmplifyClient> proxyClient,
                                 final ResourceModel model,
+                                final CallbackContext callbackContext,
                                 final Logger logger) {
         final GetDomainAssociationRequest getDomainAssociationRequest = GetDomainAssociationRequest.builder()
                 .appId(model.getAppId())
                 .domainName(model.getDomainName())
                 .build();
-        final GetDomainAssociationResponse getDomainAssociationResponse = (GetDomainAssociationResponse) ClientWrapper.execute(
+        final GetDomainAssociationResponse getDomainAssociationResponse = ClientWrapper.execute(
                 proxy,
                 getDomainAssociationRequest,
                 proxyClient.client()::getDomainAssociation,
@@ -84,26 +116,27 @@ public class CreateHandler extends BaseHandlerStd {
         final String domainInfo = String.format("%s - %s", model.getAppId(), model.getDomainName());
         final DomainAssociation domainAssociation = getDomainAssociationResponse.domainAssociation();
         final DomainStatus domainStatus = domainAssociation.domainStatus();
+        new StabilizationBackoff(callbackContext).recordPoll(domainAssociation.domainStatusAsString());
 
         switch (domainStatus) {
             case CREATING:
             case REQUESTING_CERTIFICATE:
             case IN_PROGRESS:
-                logger.log(String.format("%s CREATE stabilization domainStatus: %s", domainInfo, domainStatus));
+                HandlerLog.info(logger, "%s CREATE stabilization domainStatus: %s", domainInfo, domainStatus);
                 return false;
             case PENDING_VERIFICATION:
             case PENDING_DEPLOYMENT:
             case AVAILABLE:
             case UPDATING:
-                logger.log(String.format("%s CREATE has been stabilized.", domainInfo));
+                HandlerLog.info(logger, "%s CREATE has been stabilized.", domainInfo);
                 Translator.translateFromCreateOrUpdateResponse(model, getDomainAssociationResponse.domainAssociation());
                 return true;
             case FAILED:
                 final String FAILURE_REASON = domainAssociation.statusReason();
-                logger.log(String.format("%s CREATE stabilization failed: %s", domainInfo, FAILURE_REASON));
+                HandlerLog.info(logger, "%s CREATE stabilization failed: %s", domainInfo, FAILURE_REASON);
                 throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getArn(), new CfnGeneralServiceException(FAILURE_REASON));
             default:
-                logger.log(String.format("%s CREATE stabilization failed thrown due to invalid status: %s", domainInfo, domainStatus));
+                HandlerLog.info(logger, "%s CREATE stabilization failed thrown due to invalid status: %s", domainInfo, domainStatus);
                 throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getArn());
         }
     }
@@ -1,12 +1,14 @@
 package software.amazon.amplify.domain;
 
+import software.amazon.amplify.common.handler.Invocation;
+import software.amazon.amplify.common.handler.ResourcePipeline;
+import software.amazon.amplify.common.logging.HandlerLog;
 import software.amazon.amplify.common.utils.ClientWrapper;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
-import software.amazon.awssdk.services.amplify.model.DeleteDomainAssociationResponse;
+import software.amazon.awssdk.services.amplify.model.DomainAssociation;
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRequest;
+import software.amazon.awssdk.services.amplify.model.GetDomainAssociationResponse;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -14,7 +16,14 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final ResourcePipeline<ResourceModel, CallbackContext> pipeline =
+        ResourcePipeline.<ResourceModel, CallbackContext>builder()
+            .mutate(this::deleteDomainAssociation)
+            .stabilize((invocation, progress) -> awaitStabilization(invocation.getModel(), progress.getCallbackContext(),
+                    () -> isStabilized(invocation.getProxy(), invocation.getProxyClient(), invocation.getModel(),
+                            progress.getCallbackContext(), invocation.getLogger())))
+            .project((invocation, progress) -> ProgressEvent.defaultSuccessHandler(null))
+            .build();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -23,33 +32,32 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<AmplifyClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        return pipeline.run(new Invocation<>(proxy, request, callbackContext, proxyClient, logger));
+    }
 
-        final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
+    private ProgressEvent<ResourceModel, CallbackContext> deleteDomainAssociation(
+        final Invocation<ResourceModel, CallbackContext> invocation,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final AmazonWebServicesClientProxy proxy = invocation.getProxy();
+        final ResourceModel model = invocation.getModel();
 
-        return ProgressEvent.progress(model, callbackContext)
-            .then(progress ->
-                proxy.initiate("AWS-Amplify-Domain::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::translateToDeleteRequest)
-                    .makeServiceCall((deleteDomainAssociationRequest, proxyInvocation) -> (DeleteDomainAssociationResponse) ClientWrapper.execute(
-                            proxy,
-                            deleteDomainAssociationRequest,
-                            proxyInvocation.client()::deleteDomainAssociation,
-                            ResourceModel.TYPE_NAME,
-                            model.getArn(),
-                            logger
-                    ))
-                    .stabilize((awsRequest, awsResponse, client, resourceModel, context) -> isStabilized(proxy, proxyClient,
-                            model, logger))
-                    .progress()
-            )
-            .then(progress -> ProgressEvent.defaultSuccessHandler(null));
+        return proxy.initiate("AWS-Amplify-Domain::Delete", invocation.getProxyClient(), progress.getResourceModel(), progress.getCallbackContext())
+            .translateToServiceRequest(Translator::translateToDeleteRequest)
+            .makeServiceCall((deleteDomainAssociationRequest, proxyInvocation) -> ClientWrapper.execute(
+                    proxy,
+                    deleteDomainAssociationRequest,
+                    proxyInvocation.client()::deleteDomainAssociation,
+                    ResourceModel.TYPE_NAME,
+                    model.getArn(),
+                    invocation.getLogger()
+            ))
+            .progress();
     }
 
     private boolean isStabilized(final AmazonWebServicesClientProxy proxy,
                                  final ProxyClient<AmplifyClient> proxyClient,
                                  final ResourceModel model,
+                                 final CallbackContext callbackContext,
                                  final Logger logger) {
         final String domainInfo = String.format("%s - %s", model.getAppId(), model.getDomainName());
 
@@ -58,21 +66,21 @@ public class DeleteHandler extends BaseHandlerStd {
                     .appId(model.getAppId())
                     .domainName(model.getDomainName())
                     .build();
-            ClientWrapper.execute(
+            final GetDomainAssociationResponse getDomainAssociationResponse = ClientWrapper.executeUnlessAbsent(
                     proxy,
                     getDomainAssociationRequest,
                     proxyClient.client()::getDomainAssociation,
                     ResourceModel.TYPE_NAME,
                     model.getArn(),
                     logger);
-            logger.log(String.format("%s DELETE stabilization still in progress", domainInfo));
+            final DomainAssociation domainAssociation = getDomainAssociationResponse.domainAssociation();
+            new StabilizationBackoff(callbackContext).recordPoll(
+                    domainAssociation != null ? domainAssociation.domainStatusAsString() : null);
+            HandlerLog.info(logger, "%s DELETE stabilization still in progress", domainInfo);
             return false;
         } catch (final CfnNotFoundException e) {
-            logger.log(String.format("%s DELETE stabilization complete", domainInfo));
+            HandlerLog.info(logger, "%s DELETE stabilization complete", domainInfo);
             return true;
-        } catch (final AwsServiceException e) {
-            logger.log(String.format("%s DELETE stabilization failed: %s", domainInfo, e));
-            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getArn());
         }
     }
 }
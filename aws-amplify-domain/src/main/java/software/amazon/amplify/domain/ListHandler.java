@@ -1,8 +1,8 @@
 package software.amazon.amplify.domain;
 
+import software.amazon.amplify.common.paging.PageAggregator;
 import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
-import software.amazon.awssdk.services.amplify.model.ListDomainAssociationsRequest;
 import software.amazon.awssdk.services.amplify.model.ListDomainAssociationsResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -21,18 +21,22 @@ public class ListHandler extends BaseHandlerStd {
             final ProxyClient<AmplifyClient> proxyClient,
             final Logger logger) {
 
-        final ListDomainAssociationsRequest listBranchesRequest = Translator.translateToListRequest(request.getDesiredResourceState(),
-                request.getNextToken());
-        ListDomainAssociationsResponse listBranchesResponse = (ListDomainAssociationsResponse) ClientWrapper.execute(
-                proxy,
-                listBranchesRequest,
-                proxyClient.client()::listDomainAssociations,
-                ResourceModel.TYPE_NAME,
-                logger
+        final PageAggregator.Page<ResourceModel> page = PageAggregator.aggregate(
+                request.getNextToken(),
+                Translator.LIST_PAGE_SIZE,
+                nextToken -> ClientWrapper.execute(
+                        proxy,
+                        Translator.translateToListRequest(request.getDesiredResourceState(), nextToken),
+                        proxyClient.client()::listDomainAssociations,
+                        ResourceModel.TYPE_NAME,
+                        logger
+                ),
+                Translator::translateFromListRequest,
+                ListDomainAssociationsResponse::nextToken
         );
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(Translator.translateFromListRequest(listBranchesResponse))
-                .nextToken(listBranchesResponse.nextToken())
+                .resourceModels(page.getModels())
+                .nextToken(page.getNextToken())
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
@@ -1,8 +1,8 @@
 package software.amazon.amplify.domain;
 
+import software.amazon.amplify.common.logging.HandlerLog;
 import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
-import software.amazon.awssdk.services.amplify.model.GetDomainAssociationResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -21,11 +21,11 @@ public class ReadHandler extends BaseHandlerStd {
 
         this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
+        HandlerLog.info(logger, "requesting with model: %s", HandlerLog.redacted(model));
 
         return proxy.initiate("AWS-Amplify-Domain::Read", proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall((getDomainAssociationRequest, proxyInvocation) -> (GetDomainAssociationResponse) ClientWrapper.execute(
+            .makeServiceCall((getDomainAssociationRequest, proxyInvocation) -> ClientWrapper.executeCached(
                     proxy,
                     getDomainAssociationRequest,
                     proxyInvocation.client()::getDomainAssociation,
@@ -35,7 +35,7 @@ public class ReadHandler extends BaseHandlerStd {
             ))
             .done(getDomainAssociationResponse -> {
                 ResourceModel modelRet = Translator.translateFromReadResponse(getDomainAssociationResponse);
-                logger.log("INFO: returning model: " + modelRet);
+                HandlerLog.info(logger, "returning model: %s", HandlerLog.redacted(modelRet));
                 return ProgressEvent.defaultSuccessHandler(modelRet);
             });
     }
@@ -0,0 +1,70 @@
+package software.amazon.amplify.domain;
+
+import software.amazon.awssdk.services.amplify.model.DomainStatus;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Status-aware polling schedule for domain stabilization. Transient statuses are polled at a short constant
+ * interval, while REQUESTING_CERTIFICATE, which cannot change for minutes, backs off exponentially.
+ * PENDING_VERIFICATION waits on the customer's DNS records, so CreateHandler treats it as stable rather than
+ * polling through it.
+ * The schedule is driven by, and checkpointed in, the CallbackContext so it survives re-invocations.
+ */
+public class StabilizationBackoff {
+  static final Duration SHORT_DELAY = Duration.ofSeconds(5);
+  static final Duration CERTIFICATE_BASE_DELAY = Duration.ofSeconds(30);
+  static final Duration CERTIFICATE_MAX_DELAY = Duration.ofMinutes(5);
+  // Matches the proxy's default stabilization timeout
+  static final Duration TIMEOUT = Duration.ofMinutes(20);
+
+  private final CallbackContext callbackContext;
+
+  public StabilizationBackoff(final CallbackContext callbackContext) {
+    this.callbackContext = callbackContext;
+  }
+
+  /**
+   * Records a stabilization poll and the status it returned
+   * @param domainStatus status seen, or null when the domain association is not returned
+   */
+  void recordPoll(final String domainStatus) {
+    if (callbackContext.getStabilizationStartTime() == null) {
+      callbackContext.setStabilizationStartTime(System.currentTimeMillis());
+    }
+    callbackContext.setStabilizationAttempts(callbackContext.getStabilizationAttempts() + 1);
+    if (Objects.equals(domainStatus, callbackContext.getStabilizationStatus())) {
+      callbackContext.setStabilizationStatusAttempts(callbackContext.getStabilizationStatusAttempts() + 1);
+    } else {
+      callbackContext.setStabilizationStatus(domainStatus);
+      callbackContext.setStabilizationStatusAttempts(1);
+    }
+  }
+
+  /**
+   * Seconds to wait before the next GetDomainAssociation poll, based on the last status recorded.
+   * The delay is checkpointed in the CallbackContext.
+   * @return the delay in seconds, or 0 once the stabilization budget is spent
+   */
+  int nextDelaySeconds() {
+    final Long startTime = callbackContext.getStabilizationStartTime();
+    if (startTime != null && System.currentTimeMillis() - startTime >= TIMEOUT.toMillis()) {
+      return 0;
+    }
+    final int delaySeconds = (int) delayFor(callbackContext.getStabilizationStatus(),
+            callbackContext.getStabilizationStatusAttempts()).getSeconds();
+    callbackContext.setStabilizationDelaySeconds(delaySeconds);
+    return delaySeconds;
+  }
+
+  static Duration delayFor(final String domainStatus, final int statusAttempts) {
+    if (!DomainStatus.REQUESTING_CERTIFICATE.toString().equals(domainStatus)) {
+      return SHORT_DELAY;
+    }
+    // 30s, 60s, 120s, 240s, then capped at 5 minutes
+    final int doublings = Math.min(Math.max(statusAttempts - 1, 0), 4);
+    final Duration delay = CERTIFICATE_BASE_DELAY.multipliedBy(1L << doublings);
+    return delay.compareTo(CERTIFICATE_MAX_DELAY) > 0 ? CERTIFICATE_MAX_DELAY : delay;
+  }
+}
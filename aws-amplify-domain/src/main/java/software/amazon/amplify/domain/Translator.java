@@ -3,7 +3,8 @@ package software.amazon.amplify.domain;
 import lombok.NonNull;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
-import software.amazon.amplify.common.utils.ArnUtils;
+import software.amazon.amplify.common.utils.AmplifyArn;
+import software.amazon.amplify.common.utils.ModelDiff;
 import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.DeleteDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
@@ -31,9 +32,23 @@ import java.util.stream.Stream;
  */
 
 public class Translator {
-  private static final String ARN_SPLIT_KEY = "/domains/";
+  // Largest maxResults ListDomainAssociations accepts
+  static final int LIST_PAGE_SIZE = 50;
+
   private static final String NO_REASON_FOUND = "No reason found";
 
+  static final String AUTO_SUB_DOMAIN_CREATION_PATTERNS = "AutoSubDomainCreationPatterns";
+  static final String AUTO_SUB_DOMAIN_IAM_ROLE = "AutoSubDomainIAMRole";
+  static final String ENABLE_AUTO_SUB_DOMAIN = "EnableAutoSubDomain";
+  static final String SUB_DOMAIN_SETTINGS = "SubDomainSettings";
+  // Properties that can change in place; read-only and create-only properties are excluded
+  static final ModelDiff<ResourceModel> MODEL_DIFF = ModelDiff.<ResourceModel>builder()
+          .property(AUTO_SUB_DOMAIN_CREATION_PATTERNS, ResourceModel::getAutoSubDomainCreationPatterns)
+          .property(AUTO_SUB_DOMAIN_IAM_ROLE, ResourceModel::getAutoSubDomainIAMRole)
+          .property(ENABLE_AUTO_SUB_DOMAIN, ResourceModel::getEnableAutoSubDomain)
+          .property(SUB_DOMAIN_SETTINGS, ResourceModel::getSubDomainSettings)
+          .build();
+
   /**
    * Request to create a resource
    * @param model resource model
@@ -82,7 +97,7 @@ public class Translator {
     final DomainAssociation domainAssociation = getDomainAssociationResponse.domainAssociation();
 
     ResourceModel.ResourceModelBuilder domainAssociationModelBuilder = ResourceModel.builder()
-            .appId(ArnUtils.getAppId(domainAssociation.domainAssociationArn(), ARN_SPLIT_KEY))
+            .appId(AmplifyArn.parse(domainAssociation.domainAssociationArn(), AmplifyArn.ResourceKind.DOMAIN).getAppId())
             .arn(domainAssociation.domainAssociationArn())
             .certificateRecord(domainAssociation.certificateVerificationDNSRecord())
             .domainName(domainAssociation.domainName())
@@ -148,6 +163,7 @@ public class Translator {
    */
   static ListDomainAssociationsRequest translateToListRequest(final ResourceModel model, String nextToken) {
     return ListDomainAssociationsRequest.builder()
+            .maxResults(LIST_PAGE_SIZE)
             .appId(model.getAppId())
             .nextToken(nextToken)
             .build();
@@ -177,8 +193,9 @@ public class Translator {
       if (arn == null) {
         throw new CfnNotFoundException(ResourceModel.TYPE_NAME, null);
       }
-      model.setAppId(ArnUtils.getAppId(arn, ARN_SPLIT_KEY));
-      model.setDomainName(ArnUtils.getResourceName(arn, ARN_SPLIT_KEY));
+      final AmplifyArn domainArn = AmplifyArn.parse(arn, AmplifyArn.ResourceKind.DOMAIN);
+      model.setAppId(domainArn.getAppId());
+      model.setDomainName(domainArn.getResourceName());
     }
   }
 
@@ -1,5 +1,8 @@
 package software.amazon.amplify.domain;
 
+import software.amazon.amplify.common.handler.Invocation;
+import software.amazon.amplify.common.handler.ResourcePipeline;
+import software.amazon.amplify.common.logging.HandlerLog;
 import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
@@ -8,7 +11,6 @@ import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRequest
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationResponse;
 import software.amazon.awssdk.services.amplify.model.UpdateDomainAssociationResponse;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -17,7 +19,15 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final ResourcePipeline<ResourceModel, CallbackContext> pipeline =
+        ResourcePipeline.<ResourceModel, CallbackContext>builder()
+            .diff(Translator.MODEL_DIFF)
+            .mutate(this::updateDomainAssociation)
+            .stabilize((invocation, progress) -> awaitStabilization(invocation.getModel(), progress.getCallbackContext(),
+                    () -> isStabilized(invocation.getProxy(), invocation.getProxyClient(), invocation.getModel(),
+                            progress.getCallbackContext(), invocation.getLogger())))
+            .project(this::readResource)
+            .build();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -26,41 +36,42 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<AmplifyClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-        final ResourceModel model = request.getDesiredResourceState();
-        logger.log("INFO: requesting with model: " + model);
+        return pipeline.run(new Invocation<>(proxy, request, callbackContext, proxyClient, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> updateDomainAssociation(
+        final Invocation<ResourceModel, CallbackContext> invocation,
+        final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final AmazonWebServicesClientProxy proxy = invocation.getProxy();
+        final ResourceModel model = invocation.getModel();
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
-                proxy.initiate("AWS-Amplify-Domain::Update", proxyClient, model, progress.getCallbackContext())
-                    .translateToServiceRequest(Translator::translateToUpdateRequest)
-                    .makeServiceCall((updateDomainAssociationRequest, proxyInvocation) -> {
-                        UpdateDomainAssociationResponse updateDomainAssociationResponse = (UpdateDomainAssociationResponse) ClientWrapper.execute(
-                                proxy,
-                                updateDomainAssociationRequest,
-                                proxyInvocation.client()::updateDomainAssociation,
-                                ResourceModel.TYPE_NAME,
-                                model.getArn(),
-                                logger
-                        );
-                        setResourceModelId(model, updateDomainAssociationResponse.domainAssociation());
-                        return updateDomainAssociationResponse;
-                    })
-                    .stabilize((awsRequest, awsResponse, client, resourceModel, context) -> isStabilized(proxy, proxyClient,
-                            resourceModel, logger))
-                    .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+        return proxy.initiate("AWS-Amplify-Domain::Update", invocation.getProxyClient(), model, progress.getCallbackContext())
+            .translateToServiceRequest(Translator::translateToUpdateRequest)
+            .makeServiceCall((updateDomainAssociationRequest, proxyInvocation) -> {
+                UpdateDomainAssociationResponse updateDomainAssociationResponse = ClientWrapper.execute(
+                        proxy,
+                        updateDomainAssociationRequest,
+                        proxyInvocation.client()::updateDomainAssociation,
+                        ResourceModel.TYPE_NAME,
+                        model.getArn(),
+                        invocation.getLogger()
+                );
+                setResourceModelId(model, updateDomainAssociationResponse.domainAssociation());
+                return updateDomainAssociationResponse;
+            })
+            .progress();
     }
 
     private boolean isStabilized(final AmazonWebServicesClientProxy proxy,
                                  final ProxyClient<AmplifyClient> proxyClient,
                                  final ResourceModel model,
+                                 final CallbackContext callbackContext,
                                  final Logger logger) {
         final GetDomainAssociationRequest getDomainAssociationRequest = GetDomainAssociationRequest.builder()
                 .appId(model.getAppId())
                 .domainName(model.getDomainName())
                 .build();
-        final GetDomainAssociationResponse getDomainAssociationResponse = (GetDomainAssociationResponse) ClientWrapper.execute(
+        final GetDomainAssociationResponse getDomainAssociationResponse = ClientWrapper.execute(
                 proxy,
                 getDomainAssociationRequest,
                 proxyClient.client()::getDomainAssociation,
@@ -71,22 +82,23 @@ public class UpdateHandler extends BaseHandlerStd {
         final String domainInfo = String.format("%s - %s", model.getAppId(), model.getDomainName());
         final DomainAssociation domainAssociation = getDomainAssociationResponse.domainAssociation();
         final DomainStatus domainStatus = domainAssociation.domainStatus();
+        new StabilizationBackoff(callbackContext).recordPoll(domainAssociation.domainStatusAsString());
 
         switch (domainStatus) {
             // domainDO status can only be UPDATING post update call, or AVAILABLE once cloudfront update is successful
             case UPDATING:
-                logger.log(String.format("%s UPDATE stabilization domainStatus: %s", domainInfo, domainStatus));
+                HandlerLog.info(logger, "%s UPDATE stabilization domainStatus: %s", domainInfo, domainStatus);
                 return false;
             case AVAILABLE:
-                logger.log(String.format("%s UPDATE has been stabilized.", domainInfo));
+                HandlerLog.info(logger, "%s UPDATE has been stabilized.", domainInfo);
                 Translator.translateFromCreateOrUpdateResponse(model, domainAssociation);
                 return true;
             case FAILED:
                 final String FAILURE_REASON = domainAssociation.statusReason();
-                logger.log(String.format("%s UPDATE stabilization failed: %s", domainInfo, FAILURE_REASON));
+                HandlerLog.info(logger, "%s UPDATE stabilization failed: %s", domainInfo, FAILURE_REASON);
                 throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getArn(), new CfnGeneralServiceException(FAILURE_REASON));
             default:
-                logger.log(String.format("%s UPDATE stabilization failed thrown due to invalid status: %s", domainInfo, domainStatus));
+                HandlerLog.info(logger, "%s UPDATE stabilization failed thrown due to invalid status: %s", domainInfo, domainStatus);
                 throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getArn());
         }
     }
@@ -16,7 +16,10 @@ import software.amazon.awssdk.services.amplify.model.SubDomain;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class AbstractTestBase {
   protected static final Credentials MOCK_CREDENTIALS;
@@ -37,6 +40,21 @@ public class AbstractTestBase {
     MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
     logger = new LoggerProxy();
   }
+  // Re-invokes the handler with the returned model and context, as CloudFormation does, until it stops asking for a callback
+  static ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(
+    final BaseHandlerStd handler,
+    final AmazonWebServicesClientProxy proxy,
+    final ResourceHandlerRequest<ResourceModel> request,
+    final CallbackContext callbackContext,
+    final ProxyClient<AmplifyClient> proxyClient) {
+    ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+    while (response.getStatus() == OperationStatus.IN_PROGRESS && response.getCallbackDelaySeconds() > 0) {
+      request.setDesiredResourceState(response.getResourceModel());
+      response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+    }
+    return response;
+  }
+
   static ProxyClient<AmplifyClient> MOCK_PROXY(
     final AmazonWebServicesClientProxy proxy,
     final AmplifyClient sdkClient) {
@@ -5,15 +5,16 @@ import java.time.Duration;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.TestInfo;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.BadRequestException;
 import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationResponse;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
 import software.amazon.awssdk.services.amplify.model.DomainStatus;
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationResponse;
-import software.amazon.awssdk.services.amplify.model.NotFoundException;
 import software.amazon.awssdk.services.amplify.model.SubDomain;
 import software.amazon.awssdk.services.amplify.model.SubDomainSetting;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -34,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -90,7 +92,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .domainAssociation(domainAssociationInProgress)
                         .build());
         when(proxyClient.client().getDomainAssociation(any(GetDomainAssociationRequest.class)))
-                .thenThrow(NotFoundException.builder().build())
                 .thenReturn(GetDomainAssociationResponse.builder()
                         .domainAssociation(domainAssociationInProgress)
                         .build())
@@ -108,8 +109,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(model)
             .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
-                new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeUntilDone(handler, proxy, request,
+                new CallbackContext(), proxyClient);
 
         // Verify
         final ResourceModel expected = ResourceModel.builder()
@@ -220,6 +221,117 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .hasMessageContaining("Attempted to provide value to a read-only property");
     }
 
+    @Test
+    public void handleRequest_RequestingCertificateBacksOffExponentially() {
+        DomainAssociation domainAssociationRequestingCertificate = DomainAssociation.builder()
+                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                .domainName(DOMAIN_NAME)
+                .domainStatus(DomainStatus.REQUESTING_CERTIFICATE)
+                .build();
+        stubProxyClient(
+                CreateDomainAssociationResponse.builder().domainAssociation(domainAssociationRequestingCertificate).build(),
+                GetDomainAssociationResponse.builder().domainAssociation(domainAssociationRequestingCertificate).build());
+
+        final CreateHandler handler = new CreateHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = handler.handleRequest(proxy, request,
+                callbackContext, proxyClient, logger);
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstResponse.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(callbackContext.getStabilizationStatus()).isEqualTo(DomainStatus.REQUESTING_CERTIFICATE.toString());
+        assertThat(callbackContext.getStabilizationStatusAttempts()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondResponse = handler.handleRequest(proxy, request,
+                callbackContext, proxyClient, logger);
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(secondResponse.getCallbackDelaySeconds()).isEqualTo(60);
+        assertThat(callbackContext.getStabilizationStatusAttempts()).isEqualTo(2);
+        assertThat(callbackContext.getStabilizationAttempts()).isEqualTo(2);
+        assertThat(callbackContext.getStabilizationStartTime()).isNotNull();
+    }
+
+    @Test
+    public void handleRequest_StabilizationBudgetSpentFails() {
+        DomainAssociation domainAssociationInProgress = DomainAssociation.builder()
+                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                .domainName(DOMAIN_NAME)
+                .domainStatus(DomainStatus.IN_PROGRESS)
+                .build();
+        stubProxyClient(
+                CreateDomainAssociationResponse.builder().domainAssociation(domainAssociationInProgress).build(),
+                GetDomainAssociationResponse.builder().domainAssociation(domainAssociationInProgress).build());
+
+        final CreateHandler handler = new CreateHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setStabilizationStartTime(System.currentTimeMillis() - StabilizationBackoff.TIMEOUT.toMillis());
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, callbackContext, proxyClient, logger))
+                .isInstanceOf(CfnNotStabilizedException.class);
+    }
+
+    @Test
+    public void handleRequest_AlreadyExistsFromCreateCall() {
+        when(proxyClient.client().createDomainAssociation(any(CreateDomainAssociationRequest.class)))
+                .thenThrow(BadRequestException.builder()
+                        .message(String.format("Domain %s already exists for app %s", DOMAIN_NAME, APP_ID))
+                        .build());
+
+        final CreateHandler handler = new CreateHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        // Verify no GetDomainAssociation probe is issued before the create
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnAlreadyExistsException.class);
+        verify(sdkClient, never()).getDomainAssociation(any(GetDomainAssociationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ExistenceProbeOptIn() {
+        when(proxyClient.client().getDomainAssociation(any(GetDomainAssociationRequest.class)))
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(DomainAssociation.builder()
+                                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                                .domainName(DOMAIN_NAME)
+                                .domainStatus(DomainStatus.AVAILABLE)
+                                .build())
+                        .build());
+
+        final CreateHandler handler = new CreateHandler(true);
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnAlreadyExistsException.class);
+        verify(sdkClient).getDomainAssociation(any(GetDomainAssociationRequest.class));
+        verify(sdkClient, never()).createDomainAssociation(any(CreateDomainAssociationRequest.class));
+    }
+
     @Test
     public void handleRequest_FailedStatusFailsStabilization() {
         DomainAssociation domainAssociationPending = DomainAssociation.builder()
@@ -291,7 +403,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().createDomainAssociation(any(CreateDomainAssociationRequest.class)))
                 .thenReturn(createDomainAssociationResponseMock);
         when(proxyClient.client().getDomainAssociation(any(GetDomainAssociationRequest.class)))
-                .thenThrow(NotFoundException.builder().build())
                 .thenReturn(getDomainAssociationResponseMock);
     }
 }
@@ -1,7 +1,11 @@
 package software.amazon.amplify.domain;
 
 import java.time.Duration;
+import software.amazon.amplify.common.cache.ReadCache;
+import software.amazon.amplify.common.utils.ClientWrapper;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationRequest;
+import software.amazon.awssdk.services.amplify.model.CreateDomainAssociationResponse;
 import software.amazon.awssdk.services.amplify.model.DeleteDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.DeleteDomainAssociationResponse;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
@@ -9,6 +13,7 @@ import software.amazon.awssdk.services.amplify.model.DomainStatus;
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationResponse;
 import software.amazon.awssdk.services.amplify.model.NotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -22,9 +27,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -69,8 +76,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
-                new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeUntilDone(handler, proxy, request,
+                new CallbackContext(), proxyClient);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -81,6 +88,82 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_DeletedDomainNotProbedAgain() {
+        stubProxyClient();
+        final ReadCache previousCache = ClientWrapper.getReadCache();
+        ClientWrapper.setReadCache(ReadCache.of(16, Duration.ZERO, Duration.ofMinutes(1)));
+
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .arn(DOMAIN_ASSOCIATION_ARN)
+                .domainName(DOMAIN_NAME)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> response = invokeUntilDone(new DeleteHandler(), proxy,
+                    request, new CallbackContext(), proxyClient);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+            // Stabilization confirmed the domain gone, so reading it again needs no GetDomainAssociation call
+            assertThatThrownBy(() -> new ReadHandler().handleRequest(proxy, request, new CallbackContext(),
+                    proxyClient, logger))
+                    .isInstanceOf(CfnNotFoundException.class);
+        } finally {
+            ClientWrapper.setReadCache(previousCache);
+        }
+        verify(sdkClient).deleteDomainAssociation(any(DeleteDomainAssociationRequest.class));
+        verify(sdkClient, times(2)).getDomainAssociation(any(GetDomainAssociationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CreateAfterDeleteReadsAgain() {
+        stubProxyClient();
+        when(proxyClient.client().createDomainAssociation(any(CreateDomainAssociationRequest.class)))
+                .thenReturn(CreateDomainAssociationResponse.builder()
+                        .domainAssociation(DomainAssociation.builder()
+                                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                                .domainName(DOMAIN_NAME)
+                                .domainStatus(DomainStatus.AVAILABLE)
+                                .build())
+                        .build());
+        final ReadCache previousCache = ClientWrapper.getReadCache();
+        ClientWrapper.setReadCache(ReadCache.of(16, Duration.ZERO, Duration.ofMinutes(1)));
+
+        final ResourceHandlerRequest<ResourceModel> deleteRequest = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                    .appId(APP_ID)
+                    .arn(DOMAIN_ASSOCIATION_ARN)
+                    .domainName(DOMAIN_NAME)
+                    .build())
+            .build();
+        final ResourceHandlerRequest<ResourceModel> createRequest = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                    .appId(APP_ID)
+                    .domainName(DOMAIN_NAME)
+                    .build())
+            .build();
+
+        try {
+            invokeUntilDone(new DeleteHandler(), proxy, deleteRequest, new CallbackContext(), proxyClient);
+            // CreateDomainAssociation drops the app's not-found entries, so the domain is read again afterwards
+            final ProgressEvent<ResourceModel, CallbackContext> response = invokeUntilDone(new CreateHandler(), proxy,
+                    createRequest, new CallbackContext(), proxyClient);
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getArn()).isEqualTo(DOMAIN_ASSOCIATION_ARN);
+        } finally {
+            ClientWrapper.setReadCache(previousCache);
+        }
+        verify(sdkClient).deleteDomainAssociation(any(DeleteDomainAssociationRequest.class));
+        verify(sdkClient).createDomainAssociation(any(CreateDomainAssociationRequest.class));
+        // Two polls while deleting, then the create's stabilization poll and its final read
+        verify(sdkClient, times(4)).getDomainAssociation(any(GetDomainAssociationRequest.class));
+    }
+
     private void stubProxyClient() {
         when(proxyClient.client().deleteDomainAssociation(any(DeleteDomainAssociationRequest.class)))
                 .thenReturn(DeleteDomainAssociationResponse.builder()
@@ -97,6 +180,13 @@ public class DeleteHandlerTest extends AbstractTestBase {
                                 .domainStatus(DomainStatus.AVAILABLE)
                                 .build())
                         .build())
-                .thenThrow(NotFoundException.builder().message("Resource Not Found").build());
+                .thenThrow(NotFoundException.builder().message("Resource Not Found").build())
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(DomainAssociation.builder()
+                                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                                .domainName(DOMAIN_NAME)
+                                .domainStatus(DomainStatus.AVAILABLE)
+                                .build())
+                        .build());
     }
 }
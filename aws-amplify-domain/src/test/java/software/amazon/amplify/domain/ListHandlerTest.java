@@ -63,7 +63,7 @@ public class ListHandlerTest extends AbstractTestBase {
                 .build();
 
         when(proxyClient.client().listDomainAssociations(any(ListDomainAssociationsRequest.class)))
-                .thenReturn(listDomainAssociationsResponse);
+                .thenReturn(listDomainAssociationsResponse, listDomainAssociationsResponse.toBuilder().nextToken(null).build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
             handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -73,7 +73,8 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
-        assertThat(response.getResourceModels()).isNotNull();
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getNextToken()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
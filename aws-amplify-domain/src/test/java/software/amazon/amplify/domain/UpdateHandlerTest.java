@@ -2,6 +2,7 @@ package software.amazon.amplify.domain;
 
 import java.time.Duration;
 import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.BadRequestException;
 import software.amazon.awssdk.services.amplify.model.DomainAssociation;
 import software.amazon.awssdk.services.amplify.model.DomainStatus;
 import software.amazon.awssdk.services.amplify.model.GetDomainAssociationRequest;
@@ -10,6 +11,7 @@ import software.amazon.awssdk.services.amplify.model.SubDomain;
 import software.amazon.awssdk.services.amplify.model.SubDomainSetting;
 import software.amazon.awssdk.services.amplify.model.UpdateDomainAssociationRequest;
 import software.amazon.awssdk.services.amplify.model.UpdateDomainAssociationResponse;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -28,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -97,8 +100,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(model)
             .build();
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
-                new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeUntilDone(handler, proxy, request,
+                new CallbackContext(), proxyClient);
 
         final ResourceModel expected = ResourceModel.builder()
                 .appId(APP_ID)
@@ -119,6 +122,67 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_NoChangesSkipsUpdate() {
+        when(proxyClient.client().getDomainAssociation(any(GetDomainAssociationRequest.class)))
+                .thenReturn(GetDomainAssociationResponse.builder()
+                        .domainAssociation(DomainAssociation.builder()
+                                .domainAssociationArn(DOMAIN_ASSOCIATION_ARN)
+                                .domainName(DOMAIN_NAME)
+                                .domainStatus(DomainStatus.AVAILABLE)
+                                .build())
+                        .build());
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .subDomainSettings(SUBDOMAIN_SETTINGS_CFN)
+                .autoSubDomainCreationPatterns(AUTO_SUBDOMAIN_CREATION_PATTERNS)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(ResourceModel.builder()
+                        .appId(APP_ID)
+                        .domainName(DOMAIN_NAME)
+                        .subDomainSettings(SUBDOMAIN_SETTINGS_CFN)
+                        .autoSubDomainCreationPatterns(AUTO_SUBDOMAIN_CREATION_PATTERNS)
+                        .build())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(DOMAIN_ASSOCIATION_ARN);
+        verify(sdkClient, never()).updateDomainAssociation(any(UpdateDomainAssociationRequest.class));
+        verify(sdkClient).getDomainAssociation(any(GetDomainAssociationRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AlreadyExistsFromUpdateCallIsInvalidRequest() {
+        when(proxyClient.client().updateDomainAssociation(any(UpdateDomainAssociationRequest.class)))
+                .thenThrow(BadRequestException.builder()
+                        .message(String.format("Subdomain %s already exists for domain %s", PREFIX, DOMAIN_NAME))
+                        .build());
+
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceModel model = ResourceModel.builder()
+                .appId(APP_ID)
+                .domainName(DOMAIN_NAME)
+                .subDomainSettings(SUBDOMAIN_SETTINGS_CFN)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        // The domain association itself exists; only a create reports AlreadyExists
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnInvalidRequestException.class);
+        verify(sdkClient).updateDomainAssociation(any(UpdateDomainAssociationRequest.class));
+    }
+
     @Test
     public void handleRequest_FailedStatusFailsStabilization() {
         DomainAssociation domainAssociationPending = DomainAssociation.builder()
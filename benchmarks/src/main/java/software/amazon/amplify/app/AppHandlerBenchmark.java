@@ -0,0 +1,67 @@
+package software.amazon.amplify.app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.amplify.stub.StubHarness;
+import software.amazon.amplify.stub.StubServerState;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+// End-to-end create/update/delete of an AWS::Amplify::App through the real handlers, SDK client and HTTP stack,
+// against the in-process AmplifyStubServer.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class AppHandlerBenchmark {
+    @Benchmark
+    public ResourceModel lifecycle(final StubServerState stub) {
+        final StubHarness harness = stub.harness();
+
+        final ResourceModel created = harness.invokeUntilDone(new CreateHandler()::handleRequest,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder()
+                                .name("benchmark-app")
+                                .repository("https://github.com/example/benchmark")
+                                .buildSpec("version: 1")
+                                .tags(Collections.singletonList(Tag.builder().key("team").value("amplify").build()))
+                                .build())
+                        .build(),
+                new CallbackContext()).getResourceModel();
+
+        final ResourceModel desired = ResourceModel.builder()
+                .appId(created.getAppId())
+                .arn(created.getArn())
+                .name(created.getName())
+                .repository(created.getRepository())
+                .buildSpec(created.getBuildSpec())
+                .description("updated by benchmark")
+                .tags(Arrays.asList(
+                        Tag.builder().key("team").value("amplify").build(),
+                        Tag.builder().key("stage").value("benchmark").build()))
+                .build();
+        final ResourceModel updated = harness.invokeUntilDone(new UpdateHandler()::handleRequest,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .previousResourceState(created)
+                        .desiredResourceState(desired)
+                        .build(),
+                new CallbackContext()).getResourceModel();
+
+        harness.invokeUntilDone(new DeleteHandler()::handleRequest,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(updated)
+                        .build(),
+                new CallbackContext());
+        stub.recordOperation();
+        return updated;
+    }
+}
@@ -0,0 +1,106 @@
+package software.amazon.amplify.app;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.amplify.model.App;
+import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
+import software.amazon.awssdk.services.amplify.model.GetAppResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Translator hot paths for AWS::Amplify::App, sized by the number of custom rules, environment variables and tags.
+// Lives in the handler package because the Translator methods are package-private.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppTranslatorBenchmark {
+    @Param({"1", "10", "100", "1000"})
+    private int size;
+
+    private ResourceModel model;
+    private List<CustomRule> customRules;
+    private List<EnvironmentVariable> environmentVariables;
+    private GetAppResponse getAppResponse;
+
+    @Setup
+    public void setUp() {
+        customRules = new ArrayList<>(size);
+        environmentVariables = new ArrayList<>(size);
+        final List<Tag> tags = new ArrayList<>(size);
+        final List<software.amazon.awssdk.services.amplify.model.CustomRule> customRulesSDK = new ArrayList<>(size);
+        final Map<String, String> environmentVariablesSDK = new HashMap<>();
+        final Map<String, String> tagsSDK = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            customRules.add(CustomRule.builder()
+                    .source("/source-" + i)
+                    .target("/target-" + i)
+                    .status("200")
+                    .build());
+            environmentVariables.add(EnvironmentVariable.builder().name("VAR_" + i).value("value-" + i).build());
+            tags.add(Tag.builder().key("key-" + i).value("value-" + i).build());
+            customRulesSDK.add(software.amazon.awssdk.services.amplify.model.CustomRule.builder()
+                    .source("/source-" + i)
+                    .target("/target-" + i)
+                    .status("200")
+                    .build());
+            environmentVariablesSDK.put("VAR_" + i, "value-" + i);
+            tagsSDK.put("key-" + i, "value-" + i);
+        }
+
+        model = ResourceModel.builder()
+                .name("benchmark-app")
+                .repository("https://github.com/example/benchmark")
+                .buildSpec("version: 1")
+                .customRules(customRules)
+                .environmentVariables(environmentVariables)
+                .tags(tags)
+                .build();
+        getAppResponse = GetAppResponse.builder()
+                .app(App.builder()
+                        .appId("d1234567890")
+                        .appArn("arn:aws:amplify:us-west-2:123456789012:apps/d1234567890")
+                        .name("benchmark-app")
+                        .repository("https://github.com/example/benchmark")
+                        .customRules(customRulesSDK)
+                        .environmentVariables(environmentVariablesSDK)
+                        .tags(tagsSDK)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public CreateAppRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(getAppResponse);
+    }
+
+    @Benchmark
+    public List<software.amazon.awssdk.services.amplify.model.CustomRule> getCustomRulesSDK() {
+        return Translator.getCustomRulesSDK(customRules);
+    }
+
+    @Benchmark
+    public Map<String, String> getEnvironmentVariablesSDK() {
+        return Translator.getEnvironmentVariablesSDK(environmentVariables);
+    }
+}
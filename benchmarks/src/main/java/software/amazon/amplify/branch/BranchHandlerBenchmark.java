@@ -0,0 +1,82 @@
+package software.amazon.amplify.branch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.amplify.stub.StubHarness;
+import software.amazon.amplify.stub.StubServerState;
+import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+// End-to-end create/update/delete of an AWS::Amplify::Branch through the real handlers, SDK client and HTTP stack,
+// against the in-process AmplifyStubServer.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class BranchHandlerBenchmark {
+    @State(Scope.Benchmark)
+    public static class AppState {
+        private String appId;
+
+        @Setup(Level.Trial)
+        public void setUp(final StubServerState stub) {
+            appId = stub.harness().client()
+                    .createApp(CreateAppRequest.builder().name("benchmark-app").build())
+                    .app()
+                    .appId();
+        }
+    }
+
+    @Benchmark
+    public ResourceModel lifecycle(final StubServerState stub, final AppState app) {
+        final StubHarness harness = stub.harness();
+
+        final ResourceModel created = harness.invokeUntilDone(new CreateHandler()::handleRequest,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder()
+                                .appId(app.appId)
+                                .branchName("main")
+                                .stage("PRODUCTION")
+                                .tags(Collections.singletonList(Tag.builder().key("team").value("amplify").build()))
+                                .build())
+                        .build(),
+                new CallbackContext()).getResourceModel();
+
+        final ResourceModel desired = ResourceModel.builder()
+                .appId(created.getAppId())
+                .arn(created.getArn())
+                .branchName(created.getBranchName())
+                .stage(created.getStage())
+                .description("updated by benchmark")
+                .enableAutoBuild(true)
+                .tags(created.getTags())
+                .build();
+        final ResourceModel updated = harness.invokeUntilDone(new UpdateHandler()::handleRequest,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .previousResourceState(created)
+                        .desiredResourceState(desired)
+                        .build(),
+                new CallbackContext()).getResourceModel();
+
+        harness.invokeUntilDone(new DeleteHandler()::handleRequest,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(updated)
+                        .build(),
+                new CallbackContext());
+        stub.recordOperation();
+        return updated;
+    }
+}
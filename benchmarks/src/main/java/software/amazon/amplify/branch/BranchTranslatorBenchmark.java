@@ -0,0 +1,76 @@
+package software.amazon.amplify.branch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.amplify.model.Branch;
+import software.amazon.awssdk.services.amplify.model.GetBranchResponse;
+import software.amazon.awssdk.services.amplify.model.ListBranchesResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Translator hot paths for AWS::Amplify::Branch: list translation sized by the number of branches on the page,
+// read translation sized by the number of environment variables and tags on the branch.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BranchTranslatorBenchmark {
+    private static final String APP_ARN = "arn:aws:amplify:us-west-2:123456789012:apps/d1234567890";
+
+    @Param({"1", "10", "100", "1000"})
+    private int size;
+
+    private ListBranchesResponse listBranchesResponse;
+    private GetBranchResponse getBranchResponse;
+
+    @Setup
+    public void setUp() {
+        final List<Branch> branches = new ArrayList<>(size);
+        final Map<String, String> environmentVariables = new HashMap<>();
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            branches.add(Branch.builder()
+                    .branchName("branch-" + i)
+                    .branchArn(APP_ARN + "/branches/branch-" + i)
+                    .build());
+            environmentVariables.put("VAR_" + i, "value-" + i);
+            tags.put("key-" + i, "value-" + i);
+        }
+
+        listBranchesResponse = ListBranchesResponse.builder().branches(branches).build();
+        getBranchResponse = GetBranchResponse.builder()
+                .branch(Branch.builder()
+                        .branchName("main")
+                        .branchArn(APP_ARN + "/branches/main")
+                        .stage("PRODUCTION")
+                        .environmentVariables(environmentVariables)
+                        .tags(tags)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateFromListRequest() {
+        return Translator.translateFromListRequest(listBranchesResponse);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(getBranchResponse);
+    }
+}
@@ -0,0 +1,69 @@
+package software.amazon.amplify.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Extracting appId and resource name from Branch and Domain ARNs: the regex-split ArnUtils baseline against
+// AmplifyArn's single-pass parser, with and without its per-ARN cache. Each operation parses distinctArns ARNs.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("deprecation")
+public class ArnParsingBenchmark {
+    private static final String APP_ARN = "arn:aws:amplify:us-west-2:123456789012:apps/d1234567890";
+
+    @Param({"1", "100"})
+    private int distinctArns;
+
+    private String[] arns;
+
+    @Setup
+    public void setUp() {
+        arns = new String[distinctArns];
+        for (int i = 0; i < distinctArns; i++) {
+            arns[i] = i % 2 == 0 ? APP_ARN + "/branches/feature-" + i : APP_ARN + "/domains/example-" + i + ".com";
+        }
+    }
+
+    @Benchmark
+    public void arnUtilsSplit(final Blackhole blackhole) {
+        for (final String arn : arns) {
+            final String splitKey = arn.contains("/branches/") ? "/branches/" : "/domains/";
+            blackhole.consume(ArnUtils.getAppId(arn, splitKey));
+            blackhole.consume(ArnUtils.getResourceName(arn, splitKey));
+        }
+    }
+
+    @Benchmark
+    public void amplifyArnUncached(final Blackhole blackhole) {
+        for (final String arn : arns) {
+            final AmplifyArn parsed = AmplifyArn.parseUncached(arn);
+            blackhole.consume(parsed.getAppId());
+            blackhole.consume(parsed.getResourceName());
+        }
+    }
+
+    @Benchmark
+    public void amplifyArnCached(final Blackhole blackhole) {
+        for (final String arn : arns) {
+            final AmplifyArn parsed = AmplifyArn.parse(arn);
+            blackhole.consume(parsed.getAppId());
+            blackhole.consume(parsed.getResourceName());
+        }
+    }
+}
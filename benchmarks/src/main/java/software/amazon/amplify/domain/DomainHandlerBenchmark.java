@@ -0,0 +1,88 @@
+package software.amazon.amplify.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.amplify.stub.StubHarness;
+import software.amazon.amplify.stub.StubServerState;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
+import software.amazon.awssdk.services.amplify.model.CreateBranchRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+// End-to-end create/update/delete of an AWS::Amplify::Domain through the real handlers, SDK client and HTTP stack,
+// against the in-process AmplifyStubServer. Stabilization callbacks are re-invoked immediately, so each lifecycle
+// includes the GetDomainAssociation polls of the stub's status progression.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class DomainHandlerBenchmark {
+    private static final String BRANCH_NAME = "main";
+
+    @State(Scope.Benchmark)
+    public static class AppState {
+        private String appId;
+
+        @Setup(Level.Trial)
+        public void setUp(final StubServerState stub) {
+            final AmplifyClient client = stub.harness().client();
+            appId = client.createApp(CreateAppRequest.builder().name("benchmark-app").build()).app().appId();
+            client.createBranch(CreateBranchRequest.builder().appId(appId).branchName(BRANCH_NAME).build());
+        }
+    }
+
+    @Benchmark
+    public ResourceModel lifecycle(final StubServerState stub, final AppState app) {
+        final StubHarness harness = stub.harness();
+
+        final ResourceModel created = harness.invokeUntilDone(new CreateHandler()::handleRequest,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder()
+                                .appId(app.appId)
+                                .domainName("example.com")
+                                .subDomainSettings(Collections.singletonList(SubDomainSetting.builder()
+                                        .prefix("www")
+                                        .branchName(BRANCH_NAME)
+                                        .build()))
+                                .build())
+                        .build(),
+                new CallbackContext()).getResourceModel();
+
+        final ResourceModel desired = ResourceModel.builder()
+                .appId(created.getAppId())
+                .arn(created.getArn())
+                .domainName(created.getDomainName())
+                .subDomainSettings(Collections.singletonList(SubDomainSetting.builder()
+                        .prefix("app")
+                        .branchName(BRANCH_NAME)
+                        .build()))
+                .build();
+        final ResourceModel updated = harness.invokeUntilDone(new UpdateHandler()::handleRequest,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .previousResourceState(created)
+                        .desiredResourceState(desired)
+                        .build(),
+                new CallbackContext()).getResourceModel();
+
+        harness.invokeUntilDone(new DeleteHandler()::handleRequest,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(updated)
+                        .build(),
+                new CallbackContext());
+        stub.recordOperation();
+        return updated;
+    }
+}
@@ -0,0 +1,78 @@
+package software.amazon.amplify.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.amplify.model.DomainAssociation;
+import software.amazon.awssdk.services.amplify.model.DomainStatus;
+import software.amazon.awssdk.services.amplify.model.GetDomainAssociationResponse;
+import software.amazon.awssdk.services.amplify.model.SubDomain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Translator hot paths for AWS::Amplify::Domain, sized by the number of sub-domains on the association.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainTranslatorBenchmark {
+    @Param({"1", "10", "100", "1000"})
+    private int size;
+
+    private List<SubDomain> subDomains;
+    private List<SubDomainSetting> subDomainSettings;
+    private GetDomainAssociationResponse getDomainAssociationResponse;
+
+    @Setup
+    public void setUp() {
+        subDomains = new ArrayList<>(size);
+        subDomainSettings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            subDomains.add(SubDomain.builder()
+                    .subDomainSetting(software.amazon.awssdk.services.amplify.model.SubDomainSetting.builder()
+                            .branchName("branch-" + i)
+                            .prefix("prefix-" + i)
+                            .build())
+                    .verified(true)
+                    .dnsRecord("prefix-" + i + " CNAME example.cloudfront.net")
+                    .build());
+            subDomainSettings.add(SubDomainSetting.builder().branchName("branch-" + i).prefix("prefix-" + i).build());
+        }
+
+        getDomainAssociationResponse = GetDomainAssociationResponse.builder()
+                .domainAssociation(DomainAssociation.builder()
+                        .domainAssociationArn("arn:aws:amplify:us-west-2:123456789012:apps/d1234567890/domains/example.com")
+                        .domainName("example.com")
+                        .domainStatus(DomainStatus.AVAILABLE)
+                        .subDomains(subDomains)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public List<SubDomainSetting> getSubDomainSettingsCFN() {
+        return Translator.getSubDomainSettingsCFN(subDomains);
+    }
+
+    @Benchmark
+    public List<software.amazon.awssdk.services.amplify.model.SubDomainSetting> getSubDomainSettingsSDK() {
+        return Translator.getSubDomainSettingsSDK(subDomainSettings);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(getDomainAssociationResponse);
+    }
+}
@@ -0,0 +1,606 @@
+package software.amazon.amplify.stub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-process stand-in for the Amplify REST API (apps, branches, domain associations and tags), so the real handlers,
+// SDK marshalling, HTTP client and SDK retries can be exercised offline. Every response can be delayed by a fixed
+// latency, every n-th call can be throttled with LimitExceededException, and domain associations walk through a
+// configurable list of statuses, advancing one step per GetDomainAssociation.
+public final class AmplifyStubServer implements AutoCloseable {
+    public static final String REGION = "us-east-1";
+    public static final String ACCOUNT_ID = "123456789012";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<Map<String, Object>>() {
+    };
+    private static final String APPS = "apps";
+    private static final String BRANCHES = "branches";
+    private static final String DOMAINS = "domains";
+    private static final String TAGS = "tags";
+
+    static {
+        // Without TCP_NODELAY, delayed ACKs add ~40ms to every call and swamp the latency being measured.
+        // Read once by the JDK server's configuration, so it must be set before the first HttpServer is created.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final Duration latency;
+    private final int throttleEvery;
+    private final List<String> createStatuses;
+    private final List<String> updateStatuses;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final Map<String, AtomicLong> callCounts = new ConcurrentHashMap<>();
+
+    // Keyed by appId, appId/branchName and appId/domainName; guarded by this
+    private final Map<String, Map<String, Object>> apps = new LinkedHashMap<>();
+    private final Map<String, Map<String, Object>> branches = new LinkedHashMap<>();
+    private final Map<String, Map<String, Object>> domains = new LinkedHashMap<>();
+    private final Map<String, List<String>> domainProgressions = new HashMap<>();
+    // Resource ARN -> the stored App/Branch/DomainAssociation that carries its tags
+    private final Map<String, Map<String, Object>> resourcesByArn = new HashMap<>();
+
+    private AmplifyStubServer(final Builder builder) throws IOException {
+        this.latency = builder.latency;
+        this.throttleEvery = builder.throttleEvery;
+        this.createStatuses = builder.createStatuses;
+        this.updateStatuses = builder.updateStatuses;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.executor = Executors.newFixedThreadPool(builder.threads);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public AmplifyStubServer start() {
+        server.start();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public URI endpoint() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    /**
+     * A real AmplifyClient (SDK marshalling, the Lambda HTTP client and default retries) pointed at this server
+     * @return client for the stub endpoint
+     */
+    public AmplifyClient newClient() {
+        return AmplifyClient.builder()
+                .endpointOverride(endpoint())
+                .region(Region.of(REGION))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey")))
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .build();
+    }
+
+    /**
+     * Number of calls received per Amplify operation, including throttled ones
+     * @return operation name to call count, sorted by operation name
+     */
+    public Map<String, Long> callCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        callCounts.forEach((operation, count) -> counts.put(operation, count.get()));
+        return counts;
+    }
+
+    public long totalCalls() {
+        return requestCount.get();
+    }
+
+    public void resetCallCounts() {
+        callCounts.clear();
+        requestCount.set(0);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final Response response = dispatch(exchange);
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            send(exchange, response);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            send(exchange, error(500, "InternalFailureException", "interrupted"));
+        } catch (final RuntimeException e) {
+            send(exchange, error(500, "InternalFailureException", String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response dispatch(final HttpExchange exchange) throws IOException {
+        final String method = exchange.getRequestMethod();
+        final List<String> path = pathSegments(exchange.getRequestURI().getRawPath());
+        final Map<String, List<String>> query = queryParameters(exchange.getRequestURI().getRawQuery());
+        final Map<String, Object> body = readBody(exchange.getRequestBody());
+        final String operation = operationName(method, path);
+
+        callCounts.computeIfAbsent(operation, key -> new AtomicLong()).incrementAndGet();
+        final long requestNumber = requestCount.incrementAndGet();
+        if (throttleEvery > 0 && requestNumber % throttleEvery == 0) {
+            return error(429, "LimitExceededException", "Rate exceeded");
+        }
+
+        synchronized (this) {
+            switch (operation) {
+                case "CreateApp":
+                    return createApp(body);
+                case "GetApp":
+                    return get(apps, path.get(1), "app", "App");
+                case "UpdateApp":
+                    return update(apps, path.get(1), body, "app", "App");
+                case "DeleteApp":
+                    return deleteApp(path.get(1));
+                case "ListApps":
+                    return list(apps, "", "apps", query);
+                case "CreateBranch":
+                    return createBranch(path.get(1), body);
+                case "GetBranch":
+                    return get(branches, key(path.get(1), path.get(3)), "branch", "Branch");
+                case "UpdateBranch":
+                    return update(branches, key(path.get(1), path.get(3)), body, "branch", "Branch");
+                case "DeleteBranch":
+                    return delete(branches, key(path.get(1), path.get(3)), "branch", "Branch", "branchArn");
+                case "ListBranches":
+                    return list(branches, path.get(1) + "/", "branches", query);
+                case "CreateDomainAssociation":
+                    return createDomainAssociation(path.get(1), body);
+                case "GetDomainAssociation":
+                    return getDomainAssociation(key(path.get(1), path.get(3)));
+                case "UpdateDomainAssociation":
+                    return updateDomainAssociation(key(path.get(1), path.get(3)), body);
+                case "DeleteDomainAssociation":
+                    return delete(domains, key(path.get(1), path.get(3)), "domainAssociation", "Domain association",
+                            "domainAssociationArn");
+                case "ListDomainAssociations":
+                    return list(domains, path.get(1) + "/", "domainAssociations", query);
+                case "ListTagsForResource":
+                    return listTags(path.get(1));
+                case "TagResource":
+                    return tagResource(path.get(1), body);
+                case "UntagResource":
+                    return untagResource(path.get(1), query.getOrDefault("tagKeys", Collections.emptyList()));
+                default:
+                    return error(400, "BadRequestException", "Unsupported operation: " + method + " " + path);
+            }
+        }
+    }
+
+    private static String operationName(final String method, final List<String> path) {
+        if (path.size() == 2 && TAGS.equals(path.get(0))) {
+            switch (method) {
+                case "GET":
+                    return "ListTagsForResource";
+                case "POST":
+                    return "TagResource";
+                case "DELETE":
+                    return "UntagResource";
+                default:
+                    return "Unknown";
+            }
+        }
+        if (path.isEmpty() || !APPS.equals(path.get(0))) {
+            return "Unknown";
+        }
+        final String resource;
+        final boolean collection;
+        if (path.size() <= 2) {
+            resource = "App";
+            collection = path.size() == 1;
+        } else if (BRANCHES.equals(path.get(2))) {
+            resource = "Branch";
+            collection = path.size() == 3;
+        } else if (DOMAINS.equals(path.get(2))) {
+            resource = "DomainAssociation";
+            collection = path.size() == 3;
+        } else {
+            return "Unknown";
+        }
+        switch (method) {
+            case "GET":
+                return collection ? "List" + plural(resource) : "Get" + resource;
+            case "POST":
+                return (collection ? "Create" : "Update") + resource;
+            case "DELETE":
+                return collection ? "Unknown" : "Delete" + resource;
+            default:
+                return "Unknown";
+        }
+    }
+
+    private static String plural(final String resource) {
+        return "Branch".equals(resource) ? "Branches" : resource + "s";
+    }
+
+    private Response createApp(final Map<String, Object> request) {
+        final String appId = "d" + UUID.randomUUID().toString().replace("-", "").substring(0, 13);
+        final Map<String, Object> app = new LinkedHashMap<>(request);
+        app.remove("oauthToken");
+        app.remove("accessToken");
+        app.put("appId", appId);
+        app.put("appArn", String.format("arn:aws:amplify:%s:%s:apps/%s", REGION, ACCOUNT_ID, appId));
+        app.put("defaultDomain", appId + ".amplifyapp.com");
+        app.putIfAbsent("platform", "WEB");
+        stamp(app, true);
+        apps.put(appId, app);
+        resourcesByArn.put((String) app.get("appArn"), app);
+        return ok(Collections.singletonMap("app", app));
+    }
+
+    private Response createBranch(final String appId, final Map<String, Object> request) {
+        if (!apps.containsKey(appId)) {
+            return notFound("App");
+        }
+        final String branchName = (String) request.get("branchName");
+        if (branches.containsKey(key(appId, branchName))) {
+            return error(400, "BadRequestException", "Branch already exists");
+        }
+        final Map<String, Object> branch = new LinkedHashMap<>(request);
+        branch.put("branchArn", String.format("arn:aws:amplify:%s:%s:apps/%s/branches/%s", REGION, ACCOUNT_ID, appId, branchName));
+        branch.putIfAbsent("stage", "NONE");
+        branch.putIfAbsent("displayName", branchName);
+        stamp(branch, true);
+        branches.put(key(appId, branchName), branch);
+        resourcesByArn.put((String) branch.get("branchArn"), branch);
+        return ok(Collections.singletonMap("branch", branch));
+    }
+
+    private Response createDomainAssociation(final String appId, final Map<String, Object> request) {
+        if (!apps.containsKey(appId)) {
+            return notFound("App");
+        }
+        final String domainName = (String) request.get("domainName");
+        if (domains.containsKey(key(appId, domainName))) {
+            return error(400, "BadRequestException", "Domain association already exists");
+        }
+        final Map<String, Object> domainAssociation = new LinkedHashMap<>();
+        domainAssociation.put("domainAssociationArn",
+                String.format("arn:aws:amplify:%s:%s:apps/%s/domains/%s", REGION, ACCOUNT_ID, appId, domainName));
+        domainAssociation.put("domainName", domainName);
+        domainAssociation.put("certificateVerificationDNSRecord", "_acme." + domainName + " CNAME _validation.acm.aws.");
+        applyDomainSettings(domainAssociation, request);
+        domains.put(key(appId, domainName), domainAssociation);
+        startProgression(key(appId, domainName), createStatuses);
+        return ok(Collections.singletonMap("domainAssociation", domainAssociation));
+    }
+
+    private Response getDomainAssociation(final String key) {
+        final Map<String, Object> domainAssociation = domains.get(key);
+        if (domainAssociation == null) {
+            return notFound("Domain association");
+        }
+        final List<String> progression = domainProgressions.get(key);
+        if (progression.size() > 1) {
+            progression.remove(0);
+        }
+        domainAssociation.put("domainStatus", progression.get(0));
+        return ok(Collections.singletonMap("domainAssociation", domainAssociation));
+    }
+
+    private Response updateDomainAssociation(final String key, final Map<String, Object> request) {
+        final Map<String, Object> domainAssociation = domains.get(key);
+        if (domainAssociation == null) {
+            return notFound("Domain association");
+        }
+        applyDomainSettings(domainAssociation, request);
+        startProgression(key, updateStatuses);
+        return ok(Collections.singletonMap("domainAssociation", domainAssociation));
+    }
+
+    private void applyDomainSettings(final Map<String, Object> domainAssociation, final Map<String, Object> request) {
+        for (final String property : Arrays.asList("enableAutoSubDomain", "autoSubDomainCreationPatterns", "autoSubDomainIAMRole")) {
+            if (request.containsKey(property)) {
+                domainAssociation.put(property, request.get(property));
+            }
+        }
+        final Object subDomainSettings = request.get("subDomainSettings");
+        if (subDomainSettings instanceof List) {
+            final List<Map<String, Object>> subDomains = new ArrayList<>();
+            for (final Object subDomainSetting : (List<?>) subDomainSettings) {
+                final Map<String, Object> subDomain = new LinkedHashMap<>();
+                subDomain.put("subDomainSetting", subDomainSetting);
+                subDomain.put("verified", false);
+                subDomain.put("dnsRecord", " CNAME d1234567890.cloudfront.net");
+                subDomains.add(subDomain);
+            }
+            domainAssociation.put("subDomains", subDomains);
+        }
+    }
+
+    private void startProgression(final String key, final List<String> statuses) {
+        final List<String> progression = new ArrayList<>(statuses);
+        domainProgressions.put(key, progression);
+        domains.get(key).put("domainStatus", progression.get(0));
+    }
+
+    private Response get(final Map<String, Map<String, Object>> resources, final String key,
+                         final String member, final String resourceName) {
+        final Map<String, Object> resource = resources.get(key);
+        return resource == null ? notFound(resourceName) : ok(Collections.singletonMap(member, resource));
+    }
+
+    private Response update(final Map<String, Map<String, Object>> resources, final String key,
+                            final Map<String, Object> request, final String member, final String resourceName) {
+        final Map<String, Object> resource = resources.get(key);
+        if (resource == null) {
+            return notFound(resourceName);
+        }
+        resource.putAll(request);
+        resource.remove("oauthToken");
+        resource.remove("accessToken");
+        stamp(resource, false);
+        return ok(Collections.singletonMap(member, resource));
+    }
+
+    private Response deleteApp(final String appId) {
+        final String prefix = appId + "/";
+        branches.keySet().removeIf(key -> key.startsWith(prefix));
+        domains.keySet().removeIf(key -> key.startsWith(prefix));
+        domainProgressions.keySet().removeIf(key -> key.startsWith(prefix));
+        resourcesByArn.keySet().removeIf(arn -> arn.contains(":apps/" + appId));
+        return delete(apps, appId, "app", "App", "appArn");
+    }
+
+    private Response delete(final Map<String, Map<String, Object>> resources, final String key,
+                            final String member, final String resourceName, final String arnMember) {
+        final Map<String, Object> resource = resources.remove(key);
+        if (resource == null) {
+            return notFound(resourceName);
+        }
+        domainProgressions.remove(key);
+        resourcesByArn.remove(resource.get(arnMember));
+        return ok(Collections.singletonMap(member, resource));
+    }
+
+    private Response list(final Map<String, Map<String, Object>> resources, final String keyPrefix,
+                          final String member, final Map<String, List<String>> query) {
+        final List<Map<String, Object>> matching = new ArrayList<>();
+        resources.forEach((key, resource) -> {
+            if (key.startsWith(keyPrefix)) {
+                matching.add(resource);
+            }
+        });
+        final int start = Integer.parseInt(first(query, "nextToken", "0"));
+        final int maxResults = Integer.parseInt(first(query, "maxResults", "100"));
+        final int end = Math.min(matching.size(), start + maxResults);
+
+        final Map<String, Object> response = new LinkedHashMap<>();
+        response.put(member, matching.subList(Math.min(start, end), end));
+        if (end < matching.size()) {
+            response.put("nextToken", String.valueOf(end));
+        }
+        return ok(response);
+    }
+
+    private Response listTags(final String arn) {
+        final Map<String, Object> resource = resourcesByArn.get(arn);
+        if (resource == null) {
+            return notFound("Resource");
+        }
+        return ok(Collections.singletonMap(TAGS, tagsOf(resource)));
+    }
+
+    private Response tagResource(final String arn, final Map<String, Object> request) {
+        final Map<String, Object> resource = resourcesByArn.get(arn);
+        if (resource == null) {
+            return notFound("Resource");
+        }
+        final Map<String, Object> tags = tagsOf(resource);
+        final Object newTags = request.get(TAGS);
+        if (newTags instanceof Map) {
+            ((Map<?, ?>) newTags).forEach((key, value) -> tags.put(String.valueOf(key), value));
+        }
+        resource.put(TAGS, tags);
+        return ok(Collections.emptyMap());
+    }
+
+    private Response untagResource(final String arn, final List<String> tagKeys) {
+        final Map<String, Object> resource = resourcesByArn.get(arn);
+        if (resource == null) {
+            return notFound("Resource");
+        }
+        final Map<String, Object> tags = tagsOf(resource);
+        tags.keySet().removeAll(tagKeys);
+        resource.put(TAGS, tags);
+        return ok(Collections.emptyMap());
+    }
+
+    private static Map<String, Object> tagsOf(final Map<String, Object> resource) {
+        final Map<String, Object> tags = new LinkedHashMap<>();
+        final Object existing = resource.get(TAGS);
+        if (existing instanceof Map) {
+            ((Map<?, ?>) existing).forEach((key, value) -> tags.put(String.valueOf(key), value));
+        }
+        return tags;
+    }
+
+    private static void stamp(final Map<String, Object> resource, final boolean created) {
+        final double now = System.currentTimeMillis() / 1000.0;
+        if (created) {
+            resource.put("createTime", now);
+        }
+        resource.put("updateTime", now);
+    }
+
+    private static String key(final String parent, final String child) {
+        return parent + "/" + child;
+    }
+
+    private static Response ok(final Map<String, ?> body) {
+        return new Response(200, null, body);
+    }
+
+    private static Response notFound(final String resourceName) {
+        return error(404, "NotFoundException", resourceName + " not found");
+    }
+
+    private static Response error(final int status, final String errorType, final String message) {
+        return new Response(status, errorType, Collections.singletonMap("message", message));
+    }
+
+    private static void send(final HttpExchange exchange, final Response response) throws IOException {
+        final byte[] bytes = MAPPER.writeValueAsBytes(response.body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.getResponseHeaders().set("x-amzn-RequestId", UUID.randomUUID().toString());
+        if (response.errorType != null) {
+            exchange.getResponseHeaders().set("x-amzn-ErrorType", response.errorType);
+        }
+        exchange.sendResponseHeaders(response.status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, Object> readBody(final InputStream in) throws IOException {
+        final byte[] bytes = readAll(in);
+        return bytes.length == 0 ? new LinkedHashMap<>() : MAPPER.readValue(bytes, JSON_OBJECT);
+    }
+
+    private static byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<String> pathSegments(final String rawPath) {
+        final List<String> segments = new ArrayList<>();
+        for (final String segment : rawPath.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(decode(segment));
+            }
+        }
+        return segments;
+    }
+
+    private static Map<String, List<String>> queryParameters(final String rawQuery) {
+        final Map<String, List<String>> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (final String pair : rawQuery.split("&")) {
+            final int separator = pair.indexOf('=');
+            final String name = decode(separator < 0 ? pair : pair.substring(0, separator));
+            final String value = separator < 0 ? "" : decode(pair.substring(separator + 1));
+            parameters.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+        return parameters;
+    }
+
+    private static String first(final Map<String, List<String>> query, final String name, final String defaultValue) {
+        final List<String> values = query.get(name);
+        return values == null || values.isEmpty() ? defaultValue : values.get(0);
+    }
+
+    private static String decode(final String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Response {
+        private final int status;
+        private final String errorType;
+        private final Map<String, ?> body;
+
+        private Response(final int status, final String errorType, final Map<String, ?> body) {
+            this.status = status;
+            this.errorType = errorType;
+            this.body = body;
+        }
+    }
+
+    public static final class Builder {
+        private Duration latency = Duration.ZERO;
+        private int throttleEvery;
+        private List<String> createStatuses = Arrays.asList("CREATING", "IN_PROGRESS", "AVAILABLE");
+        private List<String> updateStatuses = Arrays.asList("UPDATING", "AVAILABLE");
+        private int threads = 16;
+
+        private Builder() {
+        }
+
+        // Fixed delay added to every response
+        public Builder latency(final Duration latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        // Answer every n-th call (counted across all operations) with LimitExceededException; 0 disables throttling
+        public Builder throttleEvery(final int throttleEvery) {
+            this.throttleEvery = throttleEvery;
+            return this;
+        }
+
+        // Statuses a new domain association reports, one per GetDomainAssociation, ending on the last one
+        public Builder createStatuses(final String... createStatuses) {
+            this.createStatuses = Arrays.asList(createStatuses);
+            return this;
+        }
+
+        // Statuses a domain association reports after UpdateDomainAssociation
+        public Builder updateStatuses(final String... updateStatuses) {
+            this.updateStatuses = Arrays.asList(updateStatuses);
+            return this;
+        }
+
+        public Builder threads(final int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public AmplifyStubServer build() throws IOException {
+            return new AmplifyStubServer(this);
+        }
+    }
+}
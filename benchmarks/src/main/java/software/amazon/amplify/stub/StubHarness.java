@@ -0,0 +1,70 @@
+package software.amazon.amplify.stub;
+
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+
+// Drives the real handlers against an AmplifyStubServer the way CloudFormation does: the handler is re-invoked with
+// the returned model and callback context until it stops asking for a callback. Callback delays are not slept, so
+// measured latency is the handlers' own work plus the stub's API latency.
+public final class StubHarness {
+    private static final Duration REMAINING_TIME = Duration.ofMinutes(15);
+
+    private final AmazonWebServicesClientProxy proxy;
+    private final ProxyClient<AmplifyClient> proxyClient;
+    private final Logger logger;
+
+    public StubHarness(final AmplifyStubServer server) {
+        final LoggerProxy loggerProxy = new LoggerProxy();
+        final AmplifyClient client = server.newClient();
+        this.proxy = new AmazonWebServicesClientProxy(loggerProxy, new Credentials("accessKey", "secretKey", "token"),
+                REMAINING_TIME::toMillis);
+        this.proxyClient = proxy.newProxy(() -> client);
+        this.logger = loggerProxy;
+    }
+
+    /**
+     * Invokes the handler, then re-invokes it for every callback it requests
+     * @param handler the handler's handleRequest taking an explicit ProxyClient
+     * @param request request carrying the desired (and, for updates, previous) resource state
+     * @param callbackContext initial callback context
+     * @return the terminal progress event
+     * @throws IllegalStateException when the handler does not end in SUCCESS
+     */
+    public <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> invokeUntilDone(final Handler<ModelT, CallbackT> handler,
+                                                                              final ResourceHandlerRequest<ModelT> request,
+                                                                              final CallbackT callbackContext) {
+        ProgressEvent<ModelT, CallbackT> event = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        while (event.getStatus() == OperationStatus.IN_PROGRESS && event.getCallbackDelaySeconds() > 0) {
+            request.setDesiredResourceState(event.getResourceModel());
+            event = handler.handleRequest(proxy, request, event.getCallbackContext(), proxyClient, logger);
+        }
+        if (event.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException(String.format("Handler ended in %s: %s %s",
+                    event.getStatus(), event.getErrorCode(), event.getMessage()));
+        }
+        return event;
+    }
+
+    public AmplifyClient client() {
+        return proxyClient.client();
+    }
+
+    // Signature of the handlers' handleRequest overload that takes the ProxyClient explicitly
+    @FunctionalInterface
+    public interface Handler<ModelT, CallbackT> {
+        ProgressEvent<ModelT, CallbackT> handleRequest(AmazonWebServicesClientProxy proxy,
+                                                       ResourceHandlerRequest<ModelT> request,
+                                                       CallbackT callbackContext,
+                                                       ProxyClient<AmplifyClient> proxyClient,
+                                                       Logger logger);
+    }
+}
@@ -0,0 +1,68 @@
+package software.amazon.amplify.stub;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// JMH state shared by the handler benchmarks: one AmplifyStubServer per trial, parameterized by API latency and
+// throttling. On tear-down it prints the Amplify API calls made per benchmark operation.
+@State(Scope.Benchmark)
+public class StubServerState {
+    @Param({"0", "20"})
+    private int latencyMillis;
+
+    @Param({"0", "10"})
+    private int throttleEvery;
+
+    private AmplifyStubServer server;
+    private StubHarness harness;
+    private final AtomicLong operations = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = AmplifyStubServer.builder()
+                .latency(Duration.ofMillis(latencyMillis))
+                .throttleEvery(throttleEvery)
+                .build()
+                .start();
+        harness = new StubHarness(server);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounts() {
+        server.resetCallCounts();
+        operations.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCallCounts() {
+        final long count = Math.max(1, operations.get());
+        final StringBuilder perOperation = new StringBuilder();
+        for (final Map.Entry<String, Long> entry : server.callCounts().entrySet()) {
+            perOperation.append(String.format(" %s=%.2f", entry.getKey(), entry.getValue() / (double) count));
+        }
+        System.out.printf("%nAmplify API calls per operation: %.2f (%s )%n",
+                server.totalCalls() / (double) count, perOperation.toString().trim());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    public StubHarness harness() {
+        return harness;
+    }
+
+    public void recordOperation() {
+        operations.incrementAndGet();
+    }
+}
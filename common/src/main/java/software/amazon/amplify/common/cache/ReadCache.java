@@ -0,0 +1,253 @@
+package software.amazon.amplify.common.cache;
+
+import software.amazon.amplify.common.utils.AmplifyArn;
+import software.amazon.amplify.common.utils.AmplifyOperation;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// Bounded LRU cache of Get* responses, shared by the invocations a warm container serves. Drift detection and
+// stack-status checks read the same ARNs over and over; within the TTL they are answered from here.
+// Entries are keyed by ARN (which carries partition, region and account) and operation, and live for
+// AMPLIFY_READ_CACHE_TTL_SECONDS (default 0, which disables the cache) among at most AMPLIFY_READ_CACHE_SIZE
+// entries (default 512). Every mutation of an app drops the cached reads of that app and of its branches and
+// domains, and a read that was in flight during a mutation is not cached.
+// Reads that found no resource are remembered for AMPLIFY_NOT_FOUND_CACHE_TTL_SECONDS (default 0, disabled), so
+// that CloudFormation retries and delete stabilization do not probe an identifier already confirmed absent.
+public final class ReadCache {
+    static final String TTL_ENV = "AMPLIFY_READ_CACHE_TTL_SECONDS";
+    static final String NOT_FOUND_TTL_ENV = "AMPLIFY_NOT_FOUND_CACHE_TTL_SECONDS";
+    static final String SIZE_ENV = "AMPLIFY_READ_CACHE_SIZE";
+    static final int DEFAULT_SIZE = 512;
+    private static final String APP_ID_FIELD = "appId";
+    private static final String RESOURCE_ARN_FIELD = "resourceArn";
+
+    private final long ttlNanos;
+    private final long notFoundTtlNanos;
+    private final Map<Key, Entry> entries;
+    // Bumped by every invalidation, so that loads which overlapped one are not stored
+    private long generation;
+
+    private ReadCache(final int maxEntries, final Duration ttl, final Duration notFoundTtl) {
+        this.ttlNanos = ttl.toNanos();
+        this.notFoundTtlNanos = notFoundTtl.toNanos();
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param maxEntries entries kept before the least recently used one is evicted
+     * @param ttl how long a response is served from the cache; zero disables caching
+     */
+    public static ReadCache of(final int maxEntries, final Duration ttl) {
+        return of(maxEntries, ttl, Duration.ZERO);
+    }
+
+    /**
+     * @param maxEntries entries kept before the least recently used one is evicted
+     * @param ttl how long a response is served from the cache; zero disables caching of responses
+     * @param notFoundTtl how long a resource found absent is reported absent without a read; zero disables it
+     */
+    public static ReadCache of(final int maxEntries, final Duration ttl, final Duration notFoundTtl) {
+        if (maxEntries < 1 || ttl.isNegative() || notFoundTtl.isNegative()) {
+            throw new IllegalArgumentException("maxEntries must be positive and TTLs not negative");
+        }
+        return new ReadCache(maxEntries, ttl, notFoundTtl);
+    }
+
+    public static ReadCache fromEnv() {
+        return of(intFromEnv(SIZE_ENV, DEFAULT_SIZE), Duration.ofSeconds(intFromEnv(TTL_ENV, 0)),
+                Duration.ofSeconds(intFromEnv(NOT_FOUND_TTL_ENV, 0)));
+    }
+
+    public boolean isEnabled() {
+        return ttlNanos > 0 || notFoundTtlNanos > 0;
+    }
+
+    /**
+     * Returns the cached response of the read, or makes the read and caches its response
+     * @param resourceTypeName type reported when the resource is known to be absent
+     * @param arn ARN of the resource read
+     * @param request the Get* request; its class tells operations on the same ARN apart
+     * @param read makes the read
+     * @return the response, possibly cached
+     * @throws CfnNotFoundException when the resource is absent, or was found absent within the not-found TTL
+     */
+    public <ResultT extends AwsResponse> ResultT getOrRead(final String resourceTypeName,
+                                                           final String arn,
+                                                           final AwsRequest request,
+                                                           final Supplier<ResultT> read) {
+        return read(resourceTypeName, arn, request, read, true);
+    }
+
+    /**
+     * Makes the read unless the resource was found absent within the not-found TTL, e.g. for stabilization polls
+     * that need the current state but gain nothing from probing a resource known to be gone. Responses are not
+     * cached.
+     * @throws CfnNotFoundException when the resource is absent, or was found absent within the not-found TTL
+     */
+    public <ResultT extends AwsResponse> ResultT readUnlessAbsent(final String resourceTypeName,
+                                                                  final String arn,
+                                                                  final AwsRequest request,
+                                                                  final Supplier<ResultT> read) {
+        return read(resourceTypeName, arn, request, read, false);
+    }
+
+    private <ResultT extends AwsResponse> ResultT read(final String resourceTypeName,
+                                                       final String arn,
+                                                       final AwsRequest request,
+                                                       final Supplier<ResultT> read,
+                                                       final boolean cacheResponse) {
+        if (!isEnabled() || arn == null) {
+            return read.get();
+        }
+        final Key key = new Key(AmplifyArn.parse(arn), request.getClass());
+        final long loadGeneration;
+        synchronized (this) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.isAbsent() && isFresh(entry, notFoundTtlNanos)) {
+                throw new CfnNotFoundException(resourceTypeName, arn);
+            }
+            if (entry != null && !entry.isAbsent() && cacheResponse && isFresh(entry, ttlNanos)) {
+                @SuppressWarnings("unchecked") final ResultT cached = (ResultT) entry.response;
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        final ResultT response;
+        try {
+            response = read.get();
+        } catch (final CfnNotFoundException e) {
+            if (notFoundTtlNanos > 0) {
+                store(key, null, loadGeneration);
+            }
+            throw e;
+        }
+        if (cacheResponse && ttlNanos > 0) {
+            store(key, response, loadGeneration);
+        }
+        return response;
+    }
+
+    private synchronized void store(final Key key, final AwsResponse response, final long loadGeneration) {
+        if (generation == loadGeneration) {
+            entries.put(key, new Entry(response, System.nanoTime()));
+        }
+    }
+
+    private static boolean isFresh(final Entry entry, final long ttlNanos) {
+        return System.nanoTime() - entry.storedNanos < ttlNanos;
+    }
+
+    /**
+     * Drops the cached reads a request could make stale. Get* and List* requests are ignored.
+     * @param request a request that went to Amplify
+     */
+    public void invalidate(final AwsRequest request) {
+        if (!isEnabled() || !AmplifyOperation.of(request).isMutation()) {
+            return;
+        }
+        final String appId = appIdOf(request);
+        synchronized (this) {
+            generation++;
+            if (appId == null) {
+                entries.clear();
+                return;
+            }
+            for (final Iterator<Key> keys = entries.keySet().iterator(); keys.hasNext(); ) {
+                if (appId.equals(keys.next().arn.getAppId())) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    // App the request acts on: its appId, or the app of its resourceArn (TagResource/UntagResource)
+    private static String appIdOf(final AwsRequest request) {
+        final String appId = request.getValueForField(APP_ID_FIELD, String.class).orElse(null);
+        if (appId != null) {
+            return appId;
+        }
+        return request.getValueForField(RESOURCE_ARN_FIELD, String.class)
+                .map(arn -> AmplifyArn.parse(arn).getAppId())
+                .orElse(null);
+    }
+
+    private static int intFromEnv(final String name, final int defaultValue) {
+        final String value = System.getenv(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static final class Key {
+        private final AmplifyArn arn;
+        private final Class<?> operation;
+
+        private Key(final AmplifyArn arn, final Class<?> operation) {
+            this.arn = arn;
+            this.operation = operation;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return arn.equals(other.arn) && operation.equals(other.operation);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(arn, operation);
+        }
+    }
+
+    private static final class Entry {
+        // null when the read found no resource
+        private final AwsResponse response;
+        private final long storedNanos;
+
+        private Entry(final AwsResponse response, final long storedNanos) {
+            this.response = response;
+            this.storedNanos = storedNanos;
+        }
+
+        private boolean isAbsent() {
+            return response == null;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package software.amazon.amplify.common.concurrent;
+
+import software.amazon.amplify.common.metrics.ClientMetrics;
+import software.amazon.amplify.common.retry.InvocationDeadline;
+import software.amazon.amplify.common.retry.RetryPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Fans independent Amplify calls of one handler invocation out on a small shared pool and joins them before the
+// handler moves on, so the invocation waits for the slowest call rather than for the sum of them.
+// The pool holds AMPLIFY_SUBREQUEST_THREADS threads (default 4; 1 runs every call sequentially on the caller). When
+// no pool thread is free the caller runs the call itself, so nested fan-outs never wait on each other. The calls
+// inherit the invocation's metrics action and deadline.
+public final class SubRequests {
+    static final String THREADS_ENV = "AMPLIFY_SUBREQUEST_THREADS";
+    static final int DEFAULT_THREADS = 4;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static final int THREADS = threadsFromEnv();
+    private static final ThreadPoolExecutor EXECUTOR = THREADS > 1 ? newExecutor(THREADS) : null;
+
+    private SubRequests() {
+    }
+
+    /**
+     * Runs the calls concurrently and waits for all of them
+     * @param calls independent calls, in the order they would run sequentially
+     * @throws RuntimeException the failure of the earliest failed call, once every call has finished
+     */
+    public static void invokeAll(final List<? extends Supplier<?>> calls) {
+        if (!calls.isEmpty()) {
+            callAlongside(calls.get(0), calls.subList(1, calls.size()));
+        }
+    }
+
+    /**
+     * Runs the main call on the caller's thread while the other calls run on the pool, and waits for all of them
+     * @param main the call whose result is wanted
+     * @param others calls independent of main and of each other
+     * @return the result of main
+     * @throws RuntimeException the failure of main, or else of the earliest failed other call, once every call
+     * has finished
+     */
+    public static <T> T callAlongside(final Supplier<T> main, final List<? extends Supplier<?>> others) {
+        if (EXECUTOR == null || others.isEmpty()) {
+            final T result = main.get();
+            others.forEach(other -> other.get());
+            return result;
+        }
+
+        final List<Future<?>> futures = new ArrayList<>(others.size());
+        for (final Supplier<?> other : others) {
+            final Supplier<?> task = ClientMetrics.propagate(InvocationDeadline.propagate(other));
+            futures.add(EXECUTOR.submit(task::get));
+        }
+
+        T result = null;
+        RuntimeException failure = null;
+        try {
+            result = main.get();
+        } catch (final RuntimeException e) {
+            failure = e;
+        }
+        for (final Future<?> future : futures) {
+            final RuntimeException otherFailure = await(future);
+            if (failure == null) {
+                failure = otherFailure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+    /**
+     * Starts a call on the pool, for the caller to join once it has done other work
+     * @param call the call to start
+     * @return the call's pending result; pass it to join
+     */
+    public static <T> CompletableFuture<T> start(final Supplier<T> call) {
+        if (EXECUTOR == null) {
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            try {
+                result.complete(call.get());
+            } catch (final RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+        return CompletableFuture.supplyAsync(ClientMetrics.propagate(InvocationDeadline.propagate(call)), EXECUTOR);
+    }
+
+    /**
+     * Waits for a call started with start
+     * @return the call's result
+     * @throws RuntimeException the call's failure
+     */
+    public static <T> T join(final CompletableFuture<T> pending) {
+        try {
+            return pending.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = RetryPolicy.unwrap(e);
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        }
+    }
+
+    private static RuntimeException await(final Future<?> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    future.get();
+                    return null;
+                } catch (final InterruptedException e) {
+                    // The call is already in flight; leaving before it finishes would let it outlive the invocation
+                    interrupted = true;
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    return cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static ThreadPoolExecutor newExecutor(final int threads) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "amplify-subrequest-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static int threadsFromEnv() {
+        final String value = System.getenv(THREADS_ENV);
+        if (value == null) {
+            return DEFAULT_THREADS;
+        }
+        try {
+            final int threads = Integer.parseInt(value.trim());
+            return threads > 0 ? threads : DEFAULT_THREADS;
+        } catch (final NumberFormatException e) {
+            return DEFAULT_THREADS;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package software.amazon.amplify.common.handler;
+
+import software.amazon.amplify.common.metrics.ClientMetrics;
+import software.amazon.amplify.common.retry.InvocationDeadline;
+import software.amazon.amplify.common.throttling.ThrottleRecovery;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.function.Supplier;
+
+// Entry point every module's BaseHandlerStd delegates to: builds the ProxyClient, and runs the handler within the
+// invocation deadline, measured by ClientMetrics, with throttled mutations deferred to a callback.
+public final class HandlerInvocation {
+    private HandlerInvocation() {
+    }
+
+    /**
+     * @param handlerClass names the invocation in metrics
+     * @param deferThrottles true for Create/Update/Delete; Read and List must complete synchronously, so their
+     * throttles surface as CfnThrottlingException
+     * @param clients supplies the Amplify client, e.g. ClientBuilder::getClient
+     * @param handler the handler's handleRequest taking an explicit ProxyClient
+     */
+    public static <ModelT, ContextT extends StdCallbackContext> ProgressEvent<ModelT, ContextT> run(
+            final Class<?> handlerClass,
+            final boolean deferThrottles,
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ModelT> request,
+            final ContextT callbackContext,
+            final Supplier<AmplifyClient> clients,
+            final Logger logger,
+            final Handler<ModelT, ContextT> handler) {
+        final Supplier<ProgressEvent<ModelT, ContextT>> invocation = () -> InvocationDeadline.within(
+                () -> handler.handleRequest(proxy, request, callbackContext, proxy.newProxy(clients), logger));
+        return ClientMetrics.measure(handlerClass, () -> deferThrottles
+                ? ThrottleRecovery.deferOnThrottle(invocation, request.getDesiredResourceState(), callbackContext)
+                : invocation.get());
+    }
+
+    // Signature of the handlers' handleRequest overload that takes the ProxyClient explicitly
+    @FunctionalInterface
+    public interface Handler<ModelT, ContextT extends StdCallbackContext> {
+        ProgressEvent<ModelT, ContextT> handleRequest(AmazonWebServicesClientProxy proxy,
+                                                      ResourceHandlerRequest<ModelT> request,
+                                                      ContextT callbackContext,
+                                                      ProxyClient<AmplifyClient> proxyClient,
+                                                      Logger logger);
+    }
+}
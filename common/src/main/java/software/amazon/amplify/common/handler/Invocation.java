@@ -0,0 +1,83 @@
+package software.amazon.amplify.common.handler;
+
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.Set;
+
+// What one handler invocation works with, handed to every stage of a ResourcePipeline. Besides the handler
+// arguments it carries what earlier stages found out: the changed properties (diff) and, when a mutation already
+// returned the complete resource, the model to report without a final read.
+public final class Invocation<ModelT, ContextT extends StdCallbackContext> {
+    private final AmazonWebServicesClientProxy proxy;
+    private final ResourceHandlerRequest<ModelT> request;
+    private final ContextT callbackContext;
+    private final ProxyClient<AmplifyClient> proxyClient;
+    private final Logger logger;
+    private Set<String> changedProperties;
+    private ModelT projectedModel;
+
+    public Invocation(final AmazonWebServicesClientProxy proxy,
+                      final ResourceHandlerRequest<ModelT> request,
+                      final ContextT callbackContext,
+                      final ProxyClient<AmplifyClient> proxyClient,
+                      final Logger logger) {
+        this.proxy = proxy;
+        this.request = request;
+        this.callbackContext = callbackContext;
+        this.proxyClient = proxyClient;
+        this.logger = logger;
+    }
+
+    public AmazonWebServicesClientProxy getProxy() {
+        return proxy;
+    }
+
+    public ResourceHandlerRequest<ModelT> getRequest() {
+        return request;
+    }
+
+    // The desired resource state; stages fill in identifiers and read-only properties as they learn them
+    public ModelT getModel() {
+        return request.getDesiredResourceState();
+    }
+
+    public ContextT getCallbackContext() {
+        return callbackContext;
+    }
+
+    public ProxyClient<AmplifyClient> getProxyClient() {
+        return proxyClient;
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * @return the properties the diff stage found changed, or null when the pipeline has no diff stage
+     */
+    public Set<String> getChangedProperties() {
+        return changedProperties;
+    }
+
+    void setChangedProperties(final Set<String> changedProperties) {
+        this.changedProperties = changedProperties;
+    }
+
+    public ModelT getProjectedModel() {
+        return projectedModel;
+    }
+
+    /**
+     * Reports model as the invocation's result once the remaining stages are done, instead of reading the resource
+     * @param model the complete resource model, e.g. translated from a mutation response that carries every property
+     */
+    public void setProjectedModel(final ModelT model) {
+        this.projectedModel = model;
+    }
+}
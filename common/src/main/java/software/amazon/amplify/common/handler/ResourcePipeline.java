@@ -0,0 +1,130 @@
+package software.amazon.amplify.common.handler;
+
+import software.amazon.amplify.common.logging.HandlerLog;
+import software.amazon.amplify.common.utils.ModelDiff;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// The Create/Update/Delete flow shared by the App, Branch and Domain handlers:
+// validate -> diff -> mutate -> tag -> stabilize -> project.
+// Modules plug in the SDK-specific stages; the order, the skipping of updates that change nothing, and the choice
+// between a projected model and a final read are decided here once. Each stage may end the invocation early (see
+// Stage), e.g. stabilization handing control back to CloudFormation with a callback delay.
+public final class ResourcePipeline<ModelT, ContextT extends StdCallbackContext> {
+    private final List<Consumer<Invocation<ModelT, ContextT>>> validations;
+    private final ModelDiff<ModelT> diff;
+    private final List<Stage<ModelT, ContextT>> stages;
+    private final Stage<ModelT, ContextT> project;
+
+    private ResourcePipeline(final Builder<ModelT, ContextT> builder) {
+        this.validations = Collections.unmodifiableList(new ArrayList<>(builder.validations));
+        this.diff = builder.diff;
+        final List<Stage<ModelT, ContextT>> stages = new ArrayList<>();
+        stages.add(builder.mutate);
+        if (builder.tag != null) {
+            stages.add(builder.tag);
+        }
+        if (builder.stabilize != null) {
+            stages.add(builder.stabilize);
+        }
+        this.stages = Collections.unmodifiableList(stages);
+        this.project = builder.project;
+    }
+
+    public static <ModelT, ContextT extends StdCallbackContext> Builder<ModelT, ContextT> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Runs the stages in order
+     * @param invocation the handler invocation
+     * @return the event of the first stage that ends the invocation, or of the projection
+     */
+    public ProgressEvent<ModelT, ContextT> run(final Invocation<ModelT, ContextT> invocation) {
+        final ModelT model = invocation.getModel();
+        HandlerLog.info(invocation.getLogger(), "requesting with model: %s", HandlerLog.redacted(model));
+        validations.forEach(validation -> validation.accept(invocation));
+
+        final ProgressEvent<ModelT, ContextT> start = ProgressEvent.progress(model, invocation.getCallbackContext());
+        if (diff != null) {
+            final Set<String> changedProperties = diff.changedProperties(
+                    invocation.getRequest().getPreviousResourceState(), model);
+            invocation.setChangedProperties(changedProperties);
+            if (changedProperties.isEmpty()) {
+                HandlerLog.info(invocation.getLogger(), "no mutable properties changed, skipping update");
+                return project.apply(invocation, start);
+            }
+        }
+
+        ProgressEvent<ModelT, ContextT> progress = start;
+        for (final Stage<ModelT, ContextT> stage : stages) {
+            progress = progress.then(event -> stage.apply(invocation, event));
+        }
+        return progress.then(event -> {
+            final ModelT projectedModel = invocation.getProjectedModel();
+            if (projectedModel == null) {
+                return project.apply(invocation, event);
+            }
+            HandlerLog.info(invocation.getLogger(), "returning model: %s", HandlerLog.redacted(projectedModel));
+            return ProgressEvent.defaultSuccessHandler(projectedModel);
+        });
+    }
+
+    public static final class Builder<ModelT, ContextT extends StdCallbackContext> {
+        private final List<Consumer<Invocation<ModelT, ContextT>>> validations = new ArrayList<>();
+        private ModelDiff<ModelT> diff;
+        private Stage<ModelT, ContextT> mutate;
+        private Stage<ModelT, ContextT> tag;
+        private Stage<ModelT, ContextT> stabilize;
+        private Stage<ModelT, ContextT> project;
+
+        private Builder() {
+        }
+
+        // Checks the invocation before any Amplify call, throwing to reject it; run in the order they were added
+        public Builder<ModelT, ContextT> validate(final Consumer<Invocation<ModelT, ContextT>> validation) {
+            validations.add(validation);
+            return this;
+        }
+
+        // Updates only: records the changed properties, and projects right away when nothing changed
+        public Builder<ModelT, ContextT> diff(final ModelDiff<ModelT> modelDiff) {
+            this.diff = modelDiff;
+            return this;
+        }
+
+        public Builder<ModelT, ContextT> mutate(final Stage<ModelT, ContextT> stage) {
+            this.mutate = stage;
+            return this;
+        }
+
+        public Builder<ModelT, ContextT> tag(final Stage<ModelT, ContextT> stage) {
+            this.tag = stage;
+            return this;
+        }
+
+        public Builder<ModelT, ContextT> stabilize(final Stage<ModelT, ContextT> stage) {
+            this.stabilize = stage;
+            return this;
+        }
+
+        // Produces the final event, typically by reading the resource, unless a stage projected the model
+        public Builder<ModelT, ContextT> project(final Stage<ModelT, ContextT> stage) {
+            this.project = stage;
+            return this;
+        }
+
+        public ResourcePipeline<ModelT, ContextT> build() {
+            if (mutate == null || project == null) {
+                throw new IllegalStateException("A pipeline needs a mutate and a project stage");
+            }
+            return new ResourcePipeline<>(this);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package software.amazon.amplify.common.handler;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+// One step of a ResourcePipeline. A stage continues the pipeline by returning an IN_PROGRESS event without a
+// callback delay; any other event (success, or IN_PROGRESS with a delay) ends the invocation with that event.
+@FunctionalInterface
+public interface Stage<ModelT, ContextT extends StdCallbackContext> {
+    ProgressEvent<ModelT, ContextT> apply(Invocation<ModelT, ContextT> invocation,
+                                          ProgressEvent<ModelT, ContextT> progress);
+}
@@ -0,0 +1,201 @@
+package software.amazon.amplify.common.logging;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+// Logging layer for the handlers and ClientWrapper. Lines are only formatted when their level is enabled
+// (AMPLIFY_HANDLER_LOG_LEVEL, default INFO), and values passed through redacted() are rendered lazily with secrets
+// masked and large fields truncated, so a multi-kilobyte BuildSpec is never stringified for a line nobody reads.
+public final class HandlerLog {
+    static final String LOG_LEVEL_ENV = "AMPLIFY_HANDLER_LOG_LEVEL";
+    static final int MAX_FIELD_LENGTH = 256;
+    static final int MAX_ELEMENTS = 20;
+    static final int MAX_MESSAGE_LENGTH = 4096;
+    static final String REDACTED = "*** Redacted ***";
+
+    // Schema property names whose values are secrets; EnvironmentVariables keep their names but not their values
+    private static final Set<String> SENSITIVE_PROPERTIES = new HashSet<>(Arrays.asList(
+            "oauthtoken", "accesstoken", "password", "basicauthcredentials"));
+    private static final String ENVIRONMENT_VARIABLES = "EnvironmentVariables";
+    private static final String VALUE = "Value";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    private static volatile LogLevel level = LogLevel.parse(System.getenv(LOG_LEVEL_ENV), LogLevel.INFO);
+
+    private HandlerLog() {
+    }
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    public static void setLevel(final LogLevel logLevel) {
+        level = logLevel;
+    }
+
+    public static boolean isEnabled(final LogLevel logLevel) {
+        return logLevel != LogLevel.OFF && logLevel.compareTo(level) >= 0;
+    }
+
+    public static void debug(final Logger logger, final String format, final Object... args) {
+        log(logger, LogLevel.DEBUG, format, args);
+    }
+
+    public static void info(final Logger logger, final String format, final Object... args) {
+        log(logger, LogLevel.INFO, format, args);
+    }
+
+    public static void warn(final Logger logger, final String format, final Object... args) {
+        log(logger, LogLevel.WARN, format, args);
+    }
+
+    public static void error(final Logger logger, final String format, final Object... args) {
+        log(logger, LogLevel.ERROR, format, args);
+    }
+
+    /**
+     * Writes "LEVEL: message" when the level is enabled; the message is only formatted in that case
+     * @param format String.format pattern
+     * @param args pattern arguments, typically including redacted(...) views
+     */
+    public static void log(final Logger logger, final LogLevel logLevel, final String format, final Object... args) {
+        if (!isEnabled(logLevel)) {
+            return;
+        }
+        final String message = args.length == 0 ? format : String.format(format, args);
+        logger.log(logLevel.name() + ": " + truncate(message, MAX_MESSAGE_LENGTH));
+    }
+
+    /**
+     * Lazy, log-safe view of a resource model or SDK request, rendered only if the line is written
+     * @param value resource model, SDK request/response or any other object
+     * @return object whose toString() masks secrets and truncates large fields
+     */
+    public static Object redacted(final Object value) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return render(value);
+            }
+        };
+    }
+
+    static String render(final Object value) {
+        if (value == null) {
+            return "null";
+        }
+        // The SDK's own toString() only masks members the service models as sensitive, which leaves environment
+        // variable values in clear; SDK requests and responses go through the same masking as resource models
+        if (value instanceof SdkPojo) {
+            return value.getClass().getSimpleName() + sanitize(null, sdkTree(value));
+        }
+        try {
+            final JsonNode tree = MAPPER.valueToTree(value);
+            return sanitize(null, tree).toString();
+        } catch (final IllegalArgumentException e) {
+            return value.getClass().getSimpleName();
+        }
+    }
+
+    // Members of an SDK request or response by their model names (EnvironmentVariables, BasicAuthCredentials, ...)
+    private static JsonNode sdkTree(final Object value) {
+        if (value instanceof SdkPojo) {
+            final SdkPojo pojo = (SdkPojo) value;
+            final ObjectNode object = MAPPER.createObjectNode();
+            for (final SdkField<?> field : pojo.sdkFields()) {
+                final Object member = field.getValueOrDefault(pojo);
+                if (member != null && !(member instanceof SdkAutoConstructList)
+                        && !(member instanceof SdkAutoConstructMap)) {
+                    object.set(StringUtils.capitalize(field.memberName()), sdkTree(member));
+                }
+            }
+            return object;
+        }
+        if (value instanceof Map) {
+            final ObjectNode object = MAPPER.createObjectNode();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                object.set(String.valueOf(entry.getKey()), sdkTree(entry.getValue()));
+            }
+            return object;
+        }
+        if (value instanceof Collection) {
+            final ArrayNode array = MAPPER.createArrayNode();
+            ((Collection<?>) value).forEach(element -> array.add(sdkTree(element)));
+            return array;
+        }
+        if (value instanceof Boolean || value instanceof Number) {
+            return MAPPER.valueToTree(value);
+        }
+        return value == null ? MAPPER.nullNode() : TextNode.valueOf(value.toString());
+    }
+
+    private static JsonNode sanitize(final String property, final JsonNode node) {
+        if (property != null && SENSITIVE_PROPERTIES.contains(property.toLowerCase())) {
+            return TextNode.valueOf(REDACTED);
+        }
+        if (node.isTextual()) {
+            return node.textValue().length() > MAX_FIELD_LENGTH
+                    ? TextNode.valueOf(truncate(node.textValue(), MAX_FIELD_LENGTH))
+                    : node;
+        }
+        if (node.isArray()) {
+            final ArrayNode array = MAPPER.createArrayNode();
+            for (int i = 0; i < node.size() && i < MAX_ELEMENTS; i++) {
+                array.add(ENVIRONMENT_VARIABLES.equals(property)
+                        ? maskValue(node.get(i))
+                        : sanitize(null, node.get(i)));
+            }
+            if (node.size() > MAX_ELEMENTS) {
+                array.add(String.format("...(%d more)", node.size() - MAX_ELEMENTS));
+            }
+            return array;
+        }
+        if (node.isObject()) {
+            final ObjectNode object = MAPPER.createObjectNode();
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                // SDK requests carry EnvironmentVariables as a name-to-value map
+                object.set(field.getKey(), ENVIRONMENT_VARIABLES.equals(property)
+                        ? TextNode.valueOf(REDACTED)
+                        : sanitize(field.getKey(), field.getValue()));
+            }
+            return object;
+        }
+        return node;
+    }
+
+    private static JsonNode maskValue(final JsonNode environmentVariable) {
+        final JsonNode sanitized = sanitize(null, environmentVariable);
+        if (sanitized.isObject() && sanitized.has(VALUE)) {
+            ((ObjectNode) sanitized).put(VALUE, REDACTED);
+        }
+        return sanitized;
+    }
+
+    static String truncate(final String value, final int maxLength) {
+        if (value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength) + String.format("...(truncated, %d chars)", value.length());
+    }
+}
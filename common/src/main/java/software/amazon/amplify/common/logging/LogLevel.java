@@ -0,0 +1,21 @@
+package software.amazon.amplify.common.logging;
+
+// Severity of a handler log line; lines below the configured level are neither formatted nor written
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    static LogLevel parse(final String value, final LogLevel defaultLevel) {
+        if (value == null) {
+            return defaultLevel;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (final IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package software.amazon.amplify.common.metrics;
+
+import lombok.Value;
+
+// Outcome of a single Amplify API call made through ClientWrapper
+@Value
+public class CallMetric {
+    // Amplify operation, derived from the request class (e.g. CreateApp)
+    String operation;
+    // Handler action the call was made for (e.g. Create), or Unknown outside a measured handler invocation
+    String action;
+    String resourceTypeName;
+    double latencyMillis;
+    // Simple name of the exception the call surfaced as, or null when it succeeded
+    String errorType;
+    boolean throttled;
+}
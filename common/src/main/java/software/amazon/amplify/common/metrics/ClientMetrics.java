@@ -0,0 +1,111 @@
+package software.amazon.amplify.common.metrics;
+
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Entry point for the metrics ClientWrapper records on every Amplify API call. The handler action is tracked per
+// thread for the duration of a handler invocation, and the sink is flushed when the invocation completes.
+// EMF records are only printed inside Lambda; elsewhere, e.g. in unit tests, the default sink drops them.
+public final class ClientMetrics {
+    static final String UNKNOWN_ACTION = "Unknown";
+    static final String LAMBDA_FUNCTION_NAME_ENV = "AWS_LAMBDA_FUNCTION_NAME";
+    private static final String HANDLER_SUFFIX = "Handler";
+
+    private static final ThreadLocal<String> ACTION = new ThreadLocal<>();
+    private static volatile MetricsSink sink = defaultSink(System.getenv(LAMBDA_FUNCTION_NAME_ENV));
+
+    private ClientMetrics() {
+    }
+
+    public static MetricsSink getSink() {
+        return sink;
+    }
+
+    public static void setSink(final MetricsSink metricsSink) {
+        sink = metricsSink != null ? metricsSink : MetricsSink.NO_OP;
+    }
+
+    /**
+     * Runs a handler invocation, attributing the calls it makes to the handler's action
+     * @param handlerClass the handler being invoked; CreateHandler is reported as action Create
+     * @param invocation the handler invocation
+     * @return the result of the invocation
+     */
+    public static <T> T measure(final Class<?> handlerClass, final Supplier<T> invocation) {
+        final String previousAction = ACTION.get();
+        ACTION.set(actionName(handlerClass));
+        try {
+            return invocation.get();
+        } finally {
+            if (previousAction == null) {
+                ACTION.remove();
+                sink.flush();
+            } else {
+                ACTION.set(previousAction);
+            }
+        }
+    }
+
+    /**
+     * Carries the current invocation's action over to a call made on another thread
+     * @param call the call to run on another thread
+     * @return the call, attributing what it records to the action current at the time of this method call
+     */
+    public static <T> Supplier<T> propagate(final Supplier<T> call) {
+        final String action = ACTION.get();
+        if (action == null) {
+            return call;
+        }
+        return () -> {
+            final String previousAction = ACTION.get();
+            ACTION.set(action);
+            try {
+                return call.get();
+            } finally {
+                if (previousAction == null) {
+                    ACTION.remove();
+                } else {
+                    ACTION.set(previousAction);
+                }
+            }
+        };
+    }
+
+    /**
+     * Records one Amplify API call
+     * @param operation name of the operation that was called, e.g. GetApp
+     * @param startNanos System.nanoTime() taken before the call
+     * @param failure the exception the call surfaced as, or null when it succeeded
+     */
+    public static void record(final String operation,
+                              final String resourceTypeName,
+                              final long startNanos,
+                              final RuntimeException failure) {
+        final String action = ACTION.get();
+        final double latencyMillis = (System.nanoTime() - startNanos) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        sink.record(new CallMetric(
+                operation,
+                action != null ? action : UNKNOWN_ACTION,
+                resourceTypeName,
+                latencyMillis,
+                failure != null ? failure.getClass().getSimpleName() : null,
+                failure instanceof CfnServiceLimitExceededException || failure instanceof CfnThrottlingException));
+    }
+
+    static MetricsSink defaultSink(final String lambdaFunctionName) {
+        return lambdaFunctionName == null || lambdaFunctionName.isEmpty() ? MetricsSink.NO_OP : new EmfMetricsSink();
+    }
+
+    static String actionName(final Class<?> handlerClass) {
+        return stripSuffix(handlerClass.getSimpleName(), HANDLER_SUFFIX);
+    }
+
+    private static String stripSuffix(final String name, final String suffix) {
+        return name.endsWith(suffix) && name.length() > suffix.length()
+                ? name.substring(0, name.length() - suffix.length())
+                : name;
+    }
+}
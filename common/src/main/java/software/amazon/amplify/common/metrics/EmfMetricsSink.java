@@ -0,0 +1,112 @@
+package software.amazon.amplify.common.metrics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.EqualsAndHashCode;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Default sink: writes CloudWatch embedded metric format (EMF) records to stdout, which Lambda ships to CloudWatch
+// Logs where they are extracted as metrics. Calls are aggregated per operation, action and error type until the
+// handler invocation completes; latencies are kept as individual values so CloudWatch can compute percentiles.
+public final class EmfMetricsSink implements MetricsSink {
+    static final String NAMESPACE = "AmplifyResourceProviders";
+    // EMF accepts at most 100 values per metric in one record
+    static final int MAX_VALUES = 100;
+    private static final String NO_ERROR = "None";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final PrintStream out;
+    private final Map<Key, Aggregate> aggregates = new LinkedHashMap<>();
+
+    public EmfMetricsSink() {
+        this(System.out);
+    }
+
+    EmfMetricsSink(final PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public synchronized void record(final CallMetric metric) {
+        final Key key = new Key(metric);
+        final Aggregate aggregate = aggregates.computeIfAbsent(key, k -> new Aggregate());
+        aggregate.latencies.add(metric.getLatencyMillis());
+        if (metric.isThrottled()) {
+            aggregate.throttles++;
+        }
+        if (aggregate.latencies.size() >= MAX_VALUES) {
+            write(key, aggregates.remove(key));
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        aggregates.forEach(this::write);
+        aggregates.clear();
+    }
+
+    private void write(final Key key, final Aggregate aggregate) {
+        final Map<String, Object> metricDirective = new LinkedHashMap<>();
+        metricDirective.put("Namespace", NAMESPACE);
+        metricDirective.put("Dimensions", Arrays.asList(
+                Arrays.asList("Operation", "Action"),
+                Arrays.asList("Operation", "ErrorType")));
+        metricDirective.put("Metrics", Arrays.asList(
+                metricDefinition("Latency", "Milliseconds"),
+                metricDefinition("Calls", "Count"),
+                metricDefinition("Throttles", "Count")));
+
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("Timestamp", System.currentTimeMillis());
+        metadata.put("CloudWatchMetrics", Collections.singletonList(metricDirective));
+
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put("_aws", metadata);
+        record.put("ResourceType", key.resourceTypeName);
+        record.put("Operation", key.operation);
+        record.put("Action", key.action);
+        record.put("ErrorType", key.errorType);
+        record.put("Latency", aggregate.latencies);
+        record.put("Calls", aggregate.latencies.size());
+        record.put("Throttles", aggregate.throttles);
+        try {
+            out.println(MAPPER.writeValueAsString(record));
+        } catch (final JsonProcessingException e) {
+            // Metrics must never fail the handler
+        }
+    }
+
+    private static Map<String, String> metricDefinition(final String name, final String unit) {
+        final Map<String, String> definition = new LinkedHashMap<>();
+        definition.put("Name", name);
+        definition.put("Unit", unit);
+        return definition;
+    }
+
+    private static final class Aggregate {
+        private final List<Double> latencies = new ArrayList<>();
+        private int throttles;
+    }
+
+    @EqualsAndHashCode
+    private static final class Key {
+        private final String operation;
+        private final String action;
+        private final String resourceTypeName;
+        private final String errorType;
+
+        private Key(final CallMetric metric) {
+            this.operation = metric.getOperation();
+            this.action = metric.getAction();
+            this.resourceTypeName = metric.getResourceTypeName();
+            this.errorType = metric.getErrorType() != null ? metric.getErrorType() : NO_ERROR;
+        }
+    }
+}
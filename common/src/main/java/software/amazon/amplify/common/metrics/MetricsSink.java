@@ -0,0 +1,12 @@
+package software.amazon.amplify.common.metrics;
+
+// Destination for per-call metrics recorded by ClientWrapper. Implementations must be thread-safe.
+public interface MetricsSink {
+    MetricsSink NO_OP = metric -> { };
+
+    void record(CallMetric metric);
+
+    // Called once a handler invocation completes; sinks that buffer should publish what they hold
+    default void flush() {
+    }
+}
@@ -0,0 +1,130 @@
+package software.amazon.amplify.common.paging;
+
+import software.amazon.amplify.common.concurrent.SubRequests;
+import software.amazon.amplify.common.retry.InvocationDeadline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Follows nextToken within one List invocation, so an inventory of thousands of resources takes a handful of
+// invocations instead of one per page. Paging stops when the listing is exhausted, when another full page could
+// exceed the response budget (AMPLIFY_LIST_MAX_MODELS, default 1000), or when the invocation's remaining time
+// (see InvocationDeadline) no longer covers twice the slowest page so far. The returned nextToken resumes there.
+// While a page is translated, the next one is already being fetched on the SubRequests pool, as long as both pages
+// fit in the budget; only the last page of an invocation is decided on, and fetched, after translation.
+public final class PageAggregator {
+    static final String MAX_MODELS_ENV = "AMPLIFY_LIST_MAX_MODELS";
+    static final int DEFAULT_MAX_MODELS = 1000;
+    private static final int PAGE_TIME_MARGIN = 2;
+
+    private static final int MAX_MODELS = maxModelsFromEnv();
+
+    private PageAggregator() {
+    }
+
+    /**
+     * Lists pages starting at nextToken until the listing or a budget is exhausted
+     * @param nextToken token the invocation was given, null for the first page
+     * @param pageSize maxResults requested per page
+     * @param fetchPage fetches the page for a token
+     * @param models translates a page into resource models
+     * @param nextTokenOf the page's next token
+     * @return the models of every page fetched, and the token of the first page not fetched
+     */
+    public static <ResponseT, ModelT> Page<ModelT> aggregate(final String nextToken,
+                                                             final int pageSize,
+                                                             final Function<String, ResponseT> fetchPage,
+                                                             final Function<ResponseT, List<ModelT>> models,
+                                                             final Function<ResponseT, String> nextTokenOf) {
+        return aggregate(nextToken, pageSize, Math.max(MAX_MODELS, pageSize), fetchPage, models, nextTokenOf);
+    }
+
+    static <ResponseT, ModelT> Page<ModelT> aggregate(final String nextToken,
+                                                      final int pageSize,
+                                                      final int maxModels,
+                                                      final Function<String, ResponseT> fetchPage,
+                                                      final Function<ResponseT, List<ModelT>> models,
+                                                      final Function<ResponseT, String> nextTokenOf) {
+        final List<ModelT> aggregated = new ArrayList<>();
+        final AtomicLong slowestPageMillis = new AtomicLong();
+        final Function<String, ResponseT> timedFetch = token -> {
+            final long startMillis = System.currentTimeMillis();
+            final ResponseT response = fetchPage.apply(token);
+            slowestPageMillis.accumulateAndGet(System.currentTimeMillis() - startMillis, Math::max);
+            return response;
+        };
+
+        ResponseT response = timedFetch.apply(nextToken);
+        while (true) {
+            final String token = normalize(nextTokenOf.apply(response));
+            CompletableFuture<ResponseT> prefetch = null;
+            // The current page is not translated yet, so assume it is full
+            if (token != null && aggregated.size() + 2 * pageSize <= maxModels
+                    && hasTimeForPage(slowestPageMillis.get())) {
+                prefetch = SubRequests.start(() -> timedFetch.apply(token));
+            }
+            try {
+                aggregated.addAll(models.apply(response));
+            } catch (final RuntimeException e) {
+                if (prefetch != null) {
+                    prefetch.handle((page, error) -> null).join();
+                }
+                throw e;
+            }
+
+            if (prefetch != null) {
+                response = SubRequests.join(prefetch);
+            } else if (token != null && aggregated.size() + pageSize <= maxModels
+                    && hasTimeForPage(slowestPageMillis.get())) {
+                response = timedFetch.apply(token);
+            } else {
+                return new Page<>(aggregated, token);
+            }
+        }
+    }
+
+    private static boolean hasTimeForPage(final long slowestPageMillis) {
+        return InvocationDeadline.remainingMillis() > PAGE_TIME_MARGIN * slowestPageMillis;
+    }
+
+    private static String normalize(final String token) {
+        return token == null || token.isEmpty() ? null : token;
+    }
+
+    private static int maxModelsFromEnv() {
+        final String value = System.getenv(MAX_MODELS_ENV);
+        if (value == null) {
+            return DEFAULT_MAX_MODELS;
+        }
+        try {
+            final int maxModels = Integer.parseInt(value.trim());
+            return maxModels > 0 ? maxModels : DEFAULT_MAX_MODELS;
+        } catch (final NumberFormatException e) {
+            return DEFAULT_MAX_MODELS;
+        }
+    }
+
+    public static final class Page<ModelT> {
+        private final List<ModelT> models;
+        private final String nextToken;
+
+        Page(final List<ModelT> models, final String nextToken) {
+            this.models = models;
+            this.nextToken = nextToken;
+        }
+
+        public List<ModelT> getModels() {
+            return models;
+        }
+
+        /**
+         * @return token to continue the listing from, null when it is complete
+         */
+        public String getNextToken() {
+            return nextToken;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package software.amazon.amplify.common.retry;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Time budget of one handler invocation, tracked per thread. The budget is a fixed share of the Lambda's time
+// (AMPLIFY_INVOCATION_BUDGET_SECONDS, default 30s) that leaves headroom for the handler's own work and for reporting
+// progress. The handlers never see the Lambda context, so each module's entrypoint passes the Lambda's remaining
+// time in through withRemainingTime, and the budget is capped by it less LAMBDA_RESERVE. Outside of an invocation
+// the remaining time is unbounded.
+public final class InvocationDeadline {
+    static final String BUDGET_ENV = "AMPLIFY_INVOCATION_BUDGET_SECONDS";
+    static final Duration DEFAULT_BUDGET = Duration.ofSeconds(30);
+    // Left to the wrapper for serializing the response once the handler returns
+    static final Duration LAMBDA_RESERVE = Duration.ofSeconds(5);
+
+    private static final Duration BUDGET = budgetFromEnv();
+    private static final ThreadLocal<Long> DEADLINE_MILLIS = new ThreadLocal<>();
+    private static final ThreadLocal<Long> LAMBDA_DEADLINE_MILLIS = new ThreadLocal<>();
+
+    private InvocationDeadline() {
+    }
+
+    /**
+     * Runs a handler invocation under the configured budget. Nested calls keep the outermost deadline.
+     * @param invocation the handler invocation
+     * @return the result of the invocation
+     */
+    public static <T> T within(final Supplier<T> invocation) {
+        return within(BUDGET, invocation);
+    }
+
+    public static <T> T within(final Duration budget, final Supplier<T> invocation) {
+        if (DEADLINE_MILLIS.get() != null) {
+            return invocation.get();
+        }
+        final long deadline = System.currentTimeMillis() + budget.toMillis();
+        final Long lambdaDeadline = LAMBDA_DEADLINE_MILLIS.get();
+        DEADLINE_MILLIS.set(lambdaDeadline != null ? Math.min(deadline, lambdaDeadline) : deadline);
+        try {
+            return invocation.get();
+        } finally {
+            DEADLINE_MILLIS.remove();
+        }
+    }
+
+    /**
+     * Runs a Lambda invocation, capping the budget of any handler invocation within it by the Lambda's remaining time
+     * @param remainingMillis the Lambda context's remaining time
+     * @param lambdaInvocation the Lambda invocation, e.g. the generated wrapper's handleRequest
+     */
+    public static <E extends Exception> void withRemainingTime(final long remainingMillis,
+                                                               final LambdaInvocation<E> lambdaInvocation) throws E {
+        LAMBDA_DEADLINE_MILLIS.set(System.currentTimeMillis() + remainingMillis - LAMBDA_RESERVE.toMillis());
+        try {
+            lambdaInvocation.run();
+        } finally {
+            LAMBDA_DEADLINE_MILLIS.remove();
+        }
+    }
+
+    /**
+     * Carries the current invocation's deadline over to a call made on another thread
+     * @param call the call to run on another thread
+     * @return the call, bounded by the deadline current at the time of this method call
+     */
+    public static <T> Supplier<T> propagate(final Supplier<T> call) {
+        final Long deadline = DEADLINE_MILLIS.get();
+        if (deadline == null) {
+            return call;
+        }
+        return () -> {
+            final Long previousDeadline = DEADLINE_MILLIS.get();
+            DEADLINE_MILLIS.set(deadline);
+            try {
+                return call.get();
+            } finally {
+                if (previousDeadline == null) {
+                    DEADLINE_MILLIS.remove();
+                } else {
+                    DEADLINE_MILLIS.set(previousDeadline);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return milliseconds left before the current invocation's deadline, Long.MAX_VALUE outside of an invocation
+     */
+    public static long remainingMillis() {
+        final Long deadline = DEADLINE_MILLIS.get();
+        return deadline != null ? Math.max(0, deadline - System.currentTimeMillis()) : Long.MAX_VALUE;
+    }
+
+    @FunctionalInterface
+    public interface LambdaInvocation<E extends Exception> {
+        void run() throws E;
+    }
+
+    private static Duration budgetFromEnv() {
+        final String value = System.getenv(BUDGET_ENV);
+        if (value == null || value.trim().isEmpty()) {
+            return DEFAULT_BUDGET;
+        }
+        try {
+            final long seconds = Long.parseLong(value.trim());
+            return seconds > 0 ? Duration.ofSeconds(seconds) : DEFAULT_BUDGET;
+        } catch (final NumberFormatException e) {
+            return DEFAULT_BUDGET;
+        }
+    }
+}
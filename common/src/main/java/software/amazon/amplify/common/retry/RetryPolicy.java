@@ -0,0 +1,162 @@
+package software.amazon.amplify.common.retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// Declarative retry of transient failures: which exceptions are worth another attempt, how many attempts to make,
+// and how long to back off between them. Backoff is exponential with full jitter, and a retry is only made when its
+// delay still fits in the invocation's remaining time (see InvocationDeadline).
+public final class RetryPolicy {
+    private final List<Predicate<? super RuntimeException>> retryable;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    private RetryPolicy(final Builder builder) {
+        this.retryable = Collections.unmodifiableList(new ArrayList<>(builder.retryable));
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelayMillis = builder.baseDelay.toMillis();
+        this.maxDelayMillis = builder.maxDelay.toMillis();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Runs the call, retrying it while it fails with a retryable exception
+     * @param call the call to make
+     * @param onRetry notified with the failure and the number of the attempt that failed, before backing off
+     * @return the result of the first successful attempt
+     * @throws RuntimeException the last failure, once it is not retryable, attempts are exhausted, the next
+     * backoff would overrun the invocation deadline or the thread is interrupted while backing off
+     */
+    public <T> T execute(final Supplier<T> call, final ObjIntConsumer<RuntimeException> onRetry) {
+        return execute(call, e -> true, onRetry);
+    }
+
+    /**
+     * execute for a call that may only be retried after some of the policy's retryable failures, e.g. a
+     * non-idempotent operation
+     * @param permitted failures the call may be retried after; a retry needs both the policy and permitted
+     */
+    public <T> T execute(final Supplier<T> call,
+                         final Predicate<? super RuntimeException> permitted,
+                         final ObjIntConsumer<RuntimeException> onRetry) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (final RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e) || !permitted.test(e)) {
+                    throw e;
+                }
+                final long delayMillis = backoffMillis(attempt);
+                if (delayMillis >= InvocationDeadline.remainingMillis()) {
+                    throw e;
+                }
+                onRetry.accept(e, attempt);
+                if (!sleep(delayMillis)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the failure a CompletableFuture stage reported, without CompletionException/ExecutionException wrapping
+     */
+    public static Throwable unwrap(final Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    public boolean isRetryable(final RuntimeException e) {
+        return retryable.stream().anyMatch(predicate -> predicate.test(e));
+    }
+
+    /**
+     * Full jitter: a uniformly random delay between 0 and the capped exponential delay
+     * @param attempt number of the attempt that failed, starting at 1
+     * @return delay before the next attempt in milliseconds
+     */
+    long backoffMillis(final int attempt) {
+        final long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    // false when interrupted; the interrupt is kept for the caller and no further attempt is made
+    private static boolean sleep(final long millis) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public static final class Builder {
+        private final List<Predicate<? super RuntimeException>> retryable = new ArrayList<>();
+        private int maxAttempts = 3;
+        private Duration baseDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(5);
+
+        private Builder() {
+        }
+
+        public Builder retryOn(final Class<? extends RuntimeException> exceptionClass) {
+            retryable.add(exceptionClass::isInstance);
+            return this;
+        }
+
+        public Builder retryOn(final Predicate<? super RuntimeException> predicate) {
+            retryable.add(predicate);
+            return this;
+        }
+
+        public Builder maxAttempts(final int attempts) {
+            if (attempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be at least 1: " + attempts);
+            }
+            this.maxAttempts = attempts;
+            return this;
+        }
+
+        public Builder baseDelay(final Duration delay) {
+            this.baseDelay = delay;
+            return this;
+        }
+
+        public Builder maxDelay(final Duration delay) {
+            this.maxDelay = delay;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            if (baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+                throw new IllegalArgumentException("delays must satisfy 0 <= baseDelay <= maxDelay");
+            }
+            return new RetryPolicy(this);
+        }
+    }
+}
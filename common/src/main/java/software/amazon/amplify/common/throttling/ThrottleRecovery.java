@@ -0,0 +1,62 @@
+package software.amazon.amplify.common.throttling;
+
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Turns a throttled mutation into a later callback instead of a failed resource. Calls that already completed are
+// replayed from the callback context's call graph on re-invocation, so the handler resumes where it was throttled.
+public final class ThrottleRecovery {
+    static final String ATTEMPTS_KEY = "amplify-throttle";
+    static final int MAX_DEFERRALS = 5;
+    static final int BASE_DELAY_SECONDS = 5;
+    static final int MAX_DELAY_SECONDS = 60;
+
+    private ThrottleRecovery() {
+    }
+
+    /**
+     * Runs a Create/Update/Delete handler invocation, returning IN_PROGRESS with a jittered callback delay when
+     * an Amplify call was throttled. After MAX_DEFERRALS consecutive deferrals the throttle is surfaced; an
+     * invocation that is not throttled starts the count afresh, so long operations may be throttled once per stage.
+     * @param invocation the handler invocation
+     * @param model model to hand back to CloudFormation
+     * @param callbackContext context of the invocation, carrying the deferral count
+     * @return the invocation's event, or an IN_PROGRESS event carrying the callback delay
+     */
+    public static <ModelT, CallbackT extends StdCallbackContext> ProgressEvent<ModelT, CallbackT> deferOnThrottle(
+            final Supplier<ProgressEvent<ModelT, CallbackT>> invocation,
+            final ModelT model,
+            final CallbackT callbackContext) {
+        final ProgressEvent<ModelT, CallbackT> event;
+        try {
+            event = invocation.get();
+        } catch (final CfnThrottlingException e) {
+            // StdCallbackContext attempt counters start at 1
+            final int attempt = callbackContext.attempts(ATTEMPTS_KEY);
+            if (attempt > MAX_DEFERRALS) {
+                throw e;
+            }
+            callbackContext.attempts(ATTEMPTS_KEY, attempt + 1);
+            return ProgressEvent.defaultInProgressHandler(callbackContext, callbackDelaySeconds(attempt - 1), model);
+        }
+        if (callbackContext.attempts(ATTEMPTS_KEY) > 1) {
+            callbackContext.attempts(ATTEMPTS_KEY, 1);
+        }
+        return event;
+    }
+
+    /**
+     * Equal-jitter exponential delay: half of the capped exponential delay, plus a random share of the other half
+     * @param deferrals deferrals made so far
+     * @return callback delay in seconds
+     */
+    static int callbackDelaySeconds(final int deferrals) {
+        final int delay = Math.min(MAX_DELAY_SECONDS, BASE_DELAY_SECONDS << Math.min(deferrals, 4));
+        final int half = delay / 2;
+        return half + ThreadLocalRandom.current().nextInt(delay - half + 1);
+    }
+}
@@ -0,0 +1,195 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Parsed Amplify resource ARN:
+// App     arn:partition:amplify:region:account:apps/appId
+// Branch  arn:partition:amplify:region:account:apps/appId/branches/branchName
+// Domain  arn:partition:amplify:region:account:apps/appId/domains/domainName
+// The ARN is scanned once with indexOf, and parsed instances are cached per ARN string, since the same ARNs are
+// translated over and over across reads, lists and callbacks. Branch names may contain '/', so the resource name
+// is everything after the resource kind.
+public final class AmplifyArn {
+    private static final String PREFIX = "arn:";
+    private static final String SERVICE = "amplify";
+    private static final String APPS = "apps/";
+    static final int MAX_CACHED = 4096;
+
+    private static final Map<String, AmplifyArn> CACHE = new ConcurrentHashMap<>();
+
+    private final String arn;
+    private final String partition;
+    private final String region;
+    private final String account;
+    private final String appId;
+    private final ResourceKind resourceKind;
+    private final String resourceName;
+
+    private AmplifyArn(final String arn,
+                       final String partition,
+                       final String region,
+                       final String account,
+                       final String appId,
+                       final ResourceKind resourceKind,
+                       final String resourceName) {
+        this.arn = arn;
+        this.partition = partition;
+        this.region = region;
+        this.account = account;
+        this.appId = appId;
+        this.resourceKind = resourceKind;
+        this.resourceName = resourceName;
+    }
+
+    /**
+     * Parses an App, Branch or Domain ARN
+     * @param arn the ARN
+     * @return the parsed ARN, shared with earlier callers that parsed the same string
+     * @throws CfnInvalidRequestException when arn is not an Amplify App, Branch or Domain ARN
+     */
+    public static AmplifyArn parse(final String arn) {
+        if (arn == null) {
+            throw invalid(null);
+        }
+        final AmplifyArn cached = CACHE.get(arn);
+        if (cached != null) {
+            return cached;
+        }
+        final AmplifyArn parsed = parseUncached(arn);
+        // Handlers see a handful of ARNs per invocation; the bound only guards long-lived containers
+        if (CACHE.size() >= MAX_CACHED) {
+            CACHE.clear();
+        }
+        CACHE.put(arn, parsed);
+        return parsed;
+    }
+
+    /**
+     * Parses an ARN that must name a resource of the given kind
+     * @throws CfnInvalidRequestException when arn is invalid or names a different kind of resource
+     */
+    public static AmplifyArn parse(final String arn, final ResourceKind expectedKind) {
+        final AmplifyArn parsed = parse(arn);
+        if (parsed.resourceKind != expectedKind) {
+            throw invalid(arn);
+        }
+        return parsed;
+    }
+
+    static AmplifyArn parseUncached(final String arn) {
+        if (!arn.startsWith(PREFIX)) {
+            throw invalid(arn);
+        }
+        final int partitionEnd = arn.indexOf(':', PREFIX.length());
+        final int serviceStart = partitionEnd + 1;
+        if (partitionEnd < 0 || !arn.startsWith(SERVICE, serviceStart)
+                || arn.indexOf(':', serviceStart) != serviceStart + SERVICE.length()) {
+            throw invalid(arn);
+        }
+        final int regionStart = serviceStart + SERVICE.length() + 1;
+        final int regionEnd = arn.indexOf(':', regionStart);
+        final int accountEnd = regionEnd < 0 ? -1 : arn.indexOf(':', regionEnd + 1);
+        if (accountEnd < 0 || !arn.startsWith(APPS, accountEnd + 1)) {
+            throw invalid(arn);
+        }
+
+        final int appIdStart = accountEnd + 1 + APPS.length();
+        final int appIdEnd = arn.indexOf('/', appIdStart);
+        final ResourceKind kind;
+        final String resourceName;
+        if (appIdEnd < 0) {
+            kind = ResourceKind.APP;
+            resourceName = null;
+        } else {
+            final int kindEnd = arn.indexOf('/', appIdEnd + 1);
+            kind = kindEnd < 0 ? null : ResourceKind.ofSegment(arn, appIdEnd + 1, kindEnd);
+            if (kind == null || kindEnd + 1 == arn.length()) {
+                throw invalid(arn);
+            }
+            resourceName = arn.substring(kindEnd + 1);
+        }
+        final String appId = arn.substring(appIdStart, appIdEnd < 0 ? arn.length() : appIdEnd);
+        if (appId.isEmpty()) {
+            throw invalid(arn);
+        }
+        return new AmplifyArn(arn,
+                arn.substring(PREFIX.length(), partitionEnd),
+                arn.substring(regionStart, regionEnd),
+                arn.substring(regionEnd + 1, accountEnd),
+                appId,
+                kind,
+                resourceName);
+    }
+
+    private static CfnInvalidRequestException invalid(final String arn) {
+        return new CfnInvalidRequestException("Invalid arn: " + arn);
+    }
+
+    public String getPartition() {
+        return partition;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public String getAccount() {
+        return account;
+    }
+
+    public String getAppId() {
+        return appId;
+    }
+
+    public ResourceKind getResourceKind() {
+        return resourceKind;
+    }
+
+    /**
+     * @return the branch or domain name, null for an App ARN
+     */
+    public String getResourceName() {
+        return resourceName;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof AmplifyArn && arn.equals(((AmplifyArn) other).arn);
+    }
+
+    @Override
+    public int hashCode() {
+        return arn.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return arn;
+    }
+
+    public enum ResourceKind {
+        APP(""),
+        BRANCH("branches"),
+        DOMAIN("domains");
+
+        private final String segment;
+
+        ResourceKind(final String segment) {
+            this.segment = segment;
+        }
+
+        // Matches arn[start, end) against the path segments without taking a substring
+        static ResourceKind ofSegment(final String arn, final int start, final int end) {
+            for (final ResourceKind kind : values()) {
+                if (kind != APP && kind.segment.length() == end - start
+                        && arn.regionMatches(start, kind.segment, 0, end - start)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.conditions.RetryOnThrottlingCondition;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+// Process-wide AmplifyClient reused across warm invocations. ProxyClient#client() calls its supplier on every
+// access, and credentials are injected per request by the proxy, so a single thread-safe client is sufficient.
+public final class AmplifyClientHolder {
+    // The SDK retries throttles only. Other transient failures are retried by ClientWrapper's RetryPolicy (up to
+    // 3 attempts, so at most two retries), which knows which operations are safe to repeat and how much of the
+    // invocation is left.
+    private static final RetryPolicy SDK_RETRY_POLICY = RetryPolicy.builder()
+            .numRetries(2)
+            .retryCondition(RetryOnThrottlingCondition.create())
+            .build();
+
+    private AmplifyClientHolder() {
+    }
+
+    public static AmplifyClient getClient() {
+        return LazyHolder.CLIENT;
+    }
+
+    // Initialization-on-demand holder: the JVM guarantees CLIENT is built once, on first access, without locking
+    private static final class LazyHolder {
+        private static final AmplifyClient CLIENT = AmplifyClient.builder()
+                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(SDK_RETRY_POLICY)
+                        .build())
+                .build();
+    }
+}
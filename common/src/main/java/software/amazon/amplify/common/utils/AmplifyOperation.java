@@ -0,0 +1,95 @@
+package software.amazon.amplify.common.utils;
+
+import java.util.function.Predicate;
+
+// Describes an Amplify operation for the layers around a call: retry (retry class), the ReadCache (cacheable reads,
+// and mutations that invalidate it), failure translation (creates) and metrics (name). Derived once per request
+// class from the SDK's naming (CreateAppRequest, GetBranchRequest, ...) and shared by every later call.
+public final class AmplifyOperation {
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private static final ClassValue<AmplifyOperation> BY_REQUEST_CLASS = new ClassValue<AmplifyOperation>() {
+        @Override
+        protected AmplifyOperation computeValue(final Class<?> requestClass) {
+            return new AmplifyOperation(requestClass);
+        }
+    };
+
+    private final String name;
+    private final boolean create;
+    private final boolean idempotent;
+    private final boolean cacheable;
+    private final boolean mutation;
+
+    private AmplifyOperation(final Class<?> requestClass) {
+        final String simpleName = requestClass.getSimpleName();
+        this.name = simpleName.endsWith(REQUEST_SUFFIX) && simpleName.length() > REQUEST_SUFFIX.length()
+                ? simpleName.substring(0, simpleName.length() - REQUEST_SUFFIX.length())
+                : simpleName;
+        this.create = name.startsWith("Create");
+        this.idempotent = !create;
+        this.cacheable = name.startsWith("Get");
+        this.mutation = !cacheable && !name.startsWith("List");
+    }
+
+    /**
+     * @param request SDK request
+     * @return the descriptor of the request's operation
+     */
+    public static AmplifyOperation of(final Object request) {
+        return BY_REQUEST_CLASS.get(request.getClass());
+    }
+
+    // Operation name, e.g. GetApp
+    public String getName() {
+        return name;
+    }
+
+    // Create* operations, the only ones a conflict with an existing resource means AlreadyExists for
+    public boolean isCreate() {
+        return create;
+    }
+
+    // Whether repeating the operation leaves the same result, i.e. everything but Create*
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    // Get* reads, whose responses the ReadCache may serve
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    // Operations that change a resource, invalidating cached reads of it
+    public boolean isMutation() {
+        return mutation;
+    }
+
+    public RetryClass getRetryClass() {
+        return idempotent ? RetryClass.ANY_TRANSIENT : RetryClass.NONE;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    // Which transient failures (see ClientWrapper's RetryPolicy) an operation may be retried after
+    public enum RetryClass {
+        // Every transient failure
+        ANY_TRANSIENT(e -> true),
+        // None. A timeout or a 5xx leaves it unknown whether a Create took effect, and repeating it could create
+        // the resource twice; the failure goes back to CloudFormation instead.
+        NONE(e -> false);
+
+        private final Predicate<RuntimeException> permitsRetry;
+
+        RetryClass(final Predicate<RuntimeException> permitsRetry) {
+            this.permitsRetry = permitsRetry;
+        }
+
+        public boolean permitsRetry(final RuntimeException failure) {
+            return permitsRetry.test(failure);
+        }
+    }
+}
@@ -9,6 +9,8 @@ import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 // Domain
 // arn:aws:amplify:region:account:apps/appId/domains/domainName
 
+// Superseded by AmplifyArn, which parses without regex splitting; kept as the baseline for ArnParsingBenchmark
+@Deprecated
 public class ArnUtils {
     private static final int ARN_SPLIT_LENGTH = 2;
     private static final int APP_ID_APP_SPLIT_INDEX = 1;
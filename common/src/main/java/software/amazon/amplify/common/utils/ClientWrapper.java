@@ -1,26 +1,76 @@
 package software.amazon.amplify.common.utils;
 
+import software.amazon.amplify.common.cache.ReadCache;
+import software.amazon.amplify.common.logging.HandlerLog;
+import software.amazon.amplify.common.metrics.ClientMetrics;
+import software.amazon.amplify.common.retry.RetryPolicy;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.amplify.model.BadRequestException;
 import software.amazon.awssdk.services.amplify.model.InternalFailureException;
 import software.amazon.awssdk.services.amplify.model.LimitExceededException;
 import software.amazon.awssdk.services.amplify.model.NotFoundException;
 import software.amazon.awssdk.services.amplify.model.UnauthorizedException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Function;
 
 public final class ClientWrapper {
-    public static <RequestT extends AwsRequest, ResultT extends AwsResponse> AwsResponse execute(
+    private static final int HTTP_CONFLICT = 409;
+    private static final String ALREADY_EXISTS_MESSAGE = "already exists";
+    private static final int HTTP_SERVER_ERROR = 500;
+    private static final List<String> RATE_EXCEEDED_MESSAGES = Arrays.asList("rate exceeded", "too many requests",
+            "throttl");
+
+    // Transient failures. The SDK client only retries throttles (see AmplifyClientHolder), so this is the one layer
+    // that retries these. A rollback of the whole stack costs far more than a few more attempts, as long as they
+    // fit in the invocation's time budget. Throttles that outlast the SDK's retries are not retried here: mutations
+    // defer them to a callback (ThrottleRecovery) instead of holding the invocation. Each operation's RetryClass
+    // (see AmplifyOperation) further limits which of these failures it is retried after; Creates are not retried.
+    private static volatile RetryPolicy retryPolicy = RetryPolicy.builder()
+            .retryOn(InternalFailureException.class)
+            .retryOn(ClientWrapper::isTransientServerError)
+            .retryOn(SdkClientException.class)
+            .maxAttempts(3)
+            .baseDelay(Duration.ofMillis(200))
+            .maxDelay(Duration.ofSeconds(5))
+            .build();
+
+    // Get* responses and confirmed-absent resources shared across invocations (see ReadCache); disabled unless
+    // configured
+    private static volatile ReadCache readCache = ReadCache.fromEnv();
+
+    public static RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public static void setRetryPolicy(final RetryPolicy policy) {
+        retryPolicy = policy;
+    }
+
+    public static ReadCache getReadCache() {
+        return readCache;
+    }
+
+    public static void setReadCache(final ReadCache cache) {
+        readCache = cache;
+    }
+
+    public static <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT execute(
             final AmazonWebServicesClientProxy clientProxy,
             final RequestT request,
             final Function<RequestT, ResultT> requestFunction,
@@ -29,34 +79,145 @@ public final class ClientWrapper {
         return execute(clientProxy, request, requestFunction, resourceTypeName, "", logger);
     }
 
-    public static <RequestT extends AwsRequest, ResultT extends AwsResponse> AwsResponse execute(
+    public static <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT execute(
             final AmazonWebServicesClientProxy clientProxy,
             final RequestT request,
             final Function<RequestT, ResultT> requestFunction,
             final String resourceTypeName,
             final String resourceTypeId,
             final Logger logger) {
+        final AmplifyOperation operation = AmplifyOperation.of(request);
+        final long startNanos = System.nanoTime();
+        RuntimeException failure = null;
         try {
-            logger.log("Invoking with request: " + request.toString());
-            return clientProxy.injectCredentialsAndInvokeV2(request, requestFunction);
-        } catch (NotFoundException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnNotFoundException(resourceTypeName, resourceTypeId);
-        } catch (InternalFailureException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnInternalFailureException(e);
-        } catch (LimitExceededException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnServiceLimitExceededException(resourceTypeName, e.getMessage());
-        } catch (BadRequestException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (UnauthorizedException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnAccessDeniedException(e);
+            return invoke(clientProxy, request, operation, requestFunction, resourceTypeName, resourceTypeId, logger);
+        } catch (final RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            ClientMetrics.record(operation.getName(), resourceTypeName, startNanos, failure);
+            readCache.invalidate(request);
+        }
+    }
+
+    /**
+     * execute for a Get* request, answered from the ReadCache when it holds a fresh response for the resource.
+     * Callers that need the current state, e.g. stabilization polls, use execute instead.
+     * @param arn ARN of the resource read, also reported as the resource identifier of a failure
+     */
+    public static <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT executeCached(
+            final AmazonWebServicesClientProxy clientProxy,
+            final RequestT request,
+            final Function<RequestT, ResultT> requestFunction,
+            final String resourceTypeName,
+            final String arn,
+            final Logger logger) {
+        return readCache.getOrRead(resourceTypeName, arn, request,
+                () -> execute(clientProxy, request, requestFunction, resourceTypeName, arn, logger));
+    }
+
+    /**
+     * execute for a Get* request that must see the current state, e.g. a stabilization poll. The read is skipped,
+     * failing with CfnNotFoundException, when the ReadCache recently found the resource absent.
+     * @param arn ARN of the resource read, also reported as the resource identifier of a failure
+     */
+    public static <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT executeUnlessAbsent(
+            final AmazonWebServicesClientProxy clientProxy,
+            final RequestT request,
+            final Function<RequestT, ResultT> requestFunction,
+            final String resourceTypeName,
+            final String arn,
+            final Logger logger) {
+        return readCache.readUnlessAbsent(resourceTypeName, arn, request,
+                () -> execute(clientProxy, request, requestFunction, resourceTypeName, arn, logger));
+    }
+
+    private static <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT invoke(
+            final AmazonWebServicesClientProxy clientProxy,
+            final RequestT request,
+            final AmplifyOperation operation,
+            final Function<RequestT, ResultT> requestFunction,
+            final String resourceTypeName,
+            final String resourceTypeId,
+            final Logger logger) {
+        try {
+            HandlerLog.debug(logger, "Invoking with request: %s", HandlerLog.redacted(request));
+            return retryPolicy.execute(() -> clientProxy.injectCredentialsAndInvokeV2(request, requestFunction),
+                    operation.getRetryClass()::permitsRetry, (e, attempt) -> logRetry(logger, operation, attempt, e));
         } catch (AwsServiceException e) {
-            logger.log("ERROR: " + e.getMessage());
-            throw new CfnGeneralServiceException(e);
+            throw translate(e, operation, resourceTypeName, resourceTypeId, logger);
+        }
+    }
+
+    // Maps an Amplify service exception to the CloudFormation exception the handler fails with
+    private static RuntimeException translate(final AwsServiceException e,
+                                              final AmplifyOperation operation,
+                                              final String resourceTypeName,
+                                              final String resourceTypeId,
+                                              final Logger logger) {
+        HandlerLog.error(logger, "%s", e.getMessage());
+        if (e instanceof NotFoundException) {
+            return new CfnNotFoundException(resourceTypeName, resourceTypeId);
+        }
+        if (e instanceof InternalFailureException) {
+            return new CfnInternalFailureException(e);
+        }
+        if (e instanceof LimitExceededException) {
+            if (isRateExceeded(e)) {
+                return new CfnThrottlingException(operation.getName(), e);
+            }
+            return new CfnServiceLimitExceededException(resourceTypeName, e.getMessage());
         }
+        if (e instanceof BadRequestException) {
+            if (operation.isCreate() && isAlreadyExists(e)) {
+                return new CfnAlreadyExistsException(resourceTypeName, resourceTypeId, e);
+            }
+            return new CfnInvalidRequestException(e.getMessage(), e);
+        }
+        if (e instanceof UnauthorizedException) {
+            return new CfnAccessDeniedException(e);
+        }
+        if (e.isThrottlingException()) {
+            return new CfnThrottlingException(operation.getName(), e);
+        }
+        if (operation.isCreate() && isAlreadyExists(e)) {
+            return new CfnAlreadyExistsException(resourceTypeName, resourceTypeId, e);
+        }
+        return new CfnGeneralServiceException(e);
+    }
+
+    private static void logRetry(final Logger logger, final AmplifyOperation operation, final int attempt,
+                                 final RuntimeException e) {
+        HandlerLog.warn(logger, "%s attempt %d failed, retrying: %s", operation.getName(), attempt, e.getMessage());
+    }
+
+    private static boolean isTransientServerError(final RuntimeException e) {
+        return e instanceof AwsServiceException
+                && ((AwsServiceException) e).statusCode() >= HTTP_SERVER_ERROR
+                && !((AwsServiceException) e).isThrottlingException();
+    }
+
+    // Amplify reports both request-rate throttles and exhausted quotas as LimitExceededException with status 429.
+    // The error code is LimitExceededException for both, the Amplify API defines no separate throttling code, and
+    // isThrottlingException() holds for either, so the message is the only thing that tells them apart. A throttle's
+    // message speaks of the request rate; anything else is taken as a quota, which no retry or deferral can fix.
+    // If Amplify rewords its throttle message, throttles fail as ServiceLimitExceeded: ClientWrapperTest pins the
+    // messages this matches.
+    private static boolean isRateExceeded(final AwsServiceException e) {
+        final String message = e.awsErrorDetails() != null && e.awsErrorDetails().errorMessage() != null
+                ? e.awsErrorDetails().errorMessage()
+                : e.getMessage();
+        if (message == null) {
+            return false;
+        }
+        final String lowerCase = message.toLowerCase();
+        return RATE_EXCEEDED_MESSAGES.stream().anyMatch(lowerCase::contains);
+    }
+
+    // Creates of an existing resource are rejected with a conflict, or a BadRequest naming the conflict. The same
+    // response to any other operation is not about the resource existing, so translate only checks Create* calls.
+    private static boolean isAlreadyExists(final AwsServiceException e) {
+        return e.statusCode() == HTTP_CONFLICT
+                || e.getMessage() != null && e.getMessage().toLowerCase().contains(ALREADY_EXISTS_MESSAGE);
     }
 }
@@ -0,0 +1,73 @@
+package software.amazon.amplify.common.utils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+// Field-level diff between two resource models. Each module registers its mutable properties by schema name,
+// and handlers use the set of changed properties to decide which service calls an update actually needs.
+public final class ModelDiff<T> {
+    private final Map<String, Function<T, ?>> properties;
+
+    private ModelDiff(final Map<String, Function<T, ?>> properties) {
+        this.properties = Collections.unmodifiableMap(properties);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Names of the registered properties whose values differ between the two models
+     * @param previous previous resource state, or null when unknown (every property is then reported as changed)
+     * @param desired desired resource state
+     * @return changed property names, in registration order
+     */
+    public Set<String> changedProperties(final T previous, final T desired) {
+        if (previous == null || desired == null) {
+            return new LinkedHashSet<>(properties.keySet());
+        }
+        final Set<String> changed = new LinkedHashSet<>();
+        properties.forEach((name, getter) -> {
+            if (!isEqual(getter.apply(previous), getter.apply(desired))) {
+                changed.add(name);
+            }
+        });
+        return changed;
+    }
+
+    // An absent collection and an empty one describe the same resource state
+    private static boolean isEqual(final Object previous, final Object desired) {
+        if (isEmpty(previous) && isEmpty(desired)) {
+            return true;
+        }
+        return Objects.equals(previous, desired);
+    }
+
+    private static boolean isEmpty(final Object value) {
+        return value == null
+                || value instanceof Collection && ((Collection<?>) value).isEmpty()
+                || value instanceof Map && ((Map<?, ?>) value).isEmpty();
+    }
+
+    public static final class Builder<T> {
+        private final Map<String, Function<T, ?>> properties = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> property(final String name, final Function<T, ?> getter) {
+            properties.put(name, getter);
+            return this;
+        }
+
+        public ModelDiff<T> build() {
+            return new ModelDiff<>(new LinkedHashMap<>(properties));
+        }
+    }
+}
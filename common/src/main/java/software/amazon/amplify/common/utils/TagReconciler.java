@@ -0,0 +1,126 @@
+package software.amazon.amplify.common.utils;
+
+import software.amazon.amplify.common.concurrent.SubRequests;
+import software.amazon.amplify.common.logging.HandlerLog;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.amplify.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.amplify.model.TagResourceRequest;
+import software.amazon.awssdk.services.amplify.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Brings the tags of an App/Branch/Domain in line with the desired tags.
+// Existing tags are taken from what the caller already knows (the App/Branch returned by the mutation, or tags
+// recorded in the CallbackContext by an earlier read); ListTagsForResource is only issued when they are unknown.
+// UntagResource and TagResource touch disjoint keys, so they run concurrently (see SubRequests).
+public final class TagReconciler {
+    private TagReconciler() {
+    }
+
+    /**
+     * Untag/tag the resource so that its tags equal desiredTags
+     * @param knownTags the current tags of the resource, or null when they are not known
+     * @return the tags the resource carries after reconciliation
+     */
+    public static Map<String, String> reconcile(final AmazonWebServicesClientProxy proxy,
+                                                final ProxyClient<AmplifyClient> proxyClient,
+                                                final String arn,
+                                                final Map<String, String> knownTags,
+                                                final Map<String, String> desiredTags,
+                                                final String resourceTypeName,
+                                                final String resourceTypeId,
+                                                final Logger logger) {
+        HandlerLog.info(logger, "Modifying Tags");
+        SubRequests.invokeAll(tagCalls(proxy, proxyClient, arn, knownTags, desiredTags, resourceTypeName,
+                resourceTypeId, logger));
+        HandlerLog.info(logger, "Successfully Updated Tags");
+        return desiredTags != null ? new HashMap<>(desiredTags) : new HashMap<>();
+    }
+
+    /**
+     * Makes a call that does not depend on the resource's tags while the tags are reconciled, e.g. the update of
+     * a resource whose only changed property is Tags
+     * @param call the call to make alongside the untag/tag calls
+     * @param knownTags the current tags of the resource, or null when they are not known
+     * @return the result of call
+     */
+    public static <T> T reconcileAlongside(final Supplier<T> call,
+                                           final AmazonWebServicesClientProxy proxy,
+                                           final ProxyClient<AmplifyClient> proxyClient,
+                                           final String arn,
+                                           final Map<String, String> knownTags,
+                                           final Map<String, String> desiredTags,
+                                           final String resourceTypeName,
+                                           final String resourceTypeId,
+                                           final Logger logger) {
+        HandlerLog.info(logger, "Modifying Tags");
+        final T result = SubRequests.callAlongside(call, tagCalls(proxy, proxyClient, arn, knownTags, desiredTags,
+                resourceTypeName, resourceTypeId, logger));
+        HandlerLog.info(logger, "Successfully Updated Tags");
+        return result;
+    }
+
+    private static List<Supplier<AwsResponse>> tagCalls(final AmazonWebServicesClientProxy proxy,
+                                                        final ProxyClient<AmplifyClient> proxyClient,
+                                                        final String arn,
+                                                        final Map<String, String> knownTags,
+                                                        final Map<String, String> desiredTags,
+                                                        final String resourceTypeName,
+                                                        final String resourceTypeId,
+                                                        final Logger logger) {
+        final Map<String, String> existingTags = knownTags != null
+                ? knownTags
+                : listTags(proxy, proxyClient, arn, resourceTypeName, resourceTypeId, logger);
+        final Map<String, String> finalTags = desiredTags != null ? desiredTags : new HashMap<>();
+
+        final Set<String> tagKeysToRemove = existingTags.keySet().stream()
+                .filter(key -> !finalTags.containsKey(key))
+                .collect(Collectors.toSet());
+        final Map<String, String> tagsToAdd = finalTags.entrySet().stream()
+                .filter(tag -> !Objects.equals(tag.getValue(), existingTags.get(tag.getKey())))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        final List<Supplier<AwsResponse>> calls = new ArrayList<>();
+        if (tagKeysToRemove.size() > 0) {
+            final UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder().resourceArn(arn)
+                    .tagKeys(tagKeysToRemove).build();
+            calls.add(() -> ClientWrapper.execute(proxy, untagResourceRequest, proxyClient.client()::untagResource,
+                    resourceTypeName, resourceTypeId, logger));
+        }
+
+        if (tagsToAdd.size() > 0) {
+            final TagResourceRequest tagResourceRequest = TagResourceRequest.builder().resourceArn(arn)
+                    .tags(tagsToAdd).build();
+            calls.add(() -> ClientWrapper.execute(proxy, tagResourceRequest, proxyClient.client()::tagResource,
+                    resourceTypeName, resourceTypeId, logger));
+        }
+        return calls;
+    }
+
+    private static Map<String, String> listTags(final AmazonWebServicesClientProxy proxy,
+                                                final ProxyClient<AmplifyClient> proxyClient,
+                                                final String arn,
+                                                final String resourceTypeName,
+                                                final String resourceTypeId,
+                                                final Logger logger) {
+        final ListTagsForResourceRequest listTagsForResourceRequest = ListTagsForResourceRequest.builder()
+                .resourceArn(arn)
+                .build();
+        final ListTagsForResourceResponse listTagsForResourceResponse = ClientWrapper.execute(
+                proxy, listTagsForResourceRequest, proxyClient.client()::listTagsForResource, resourceTypeName,
+                resourceTypeId, logger);
+        return listTagsForResourceResponse.tags();
+    }
+}
@@ -0,0 +1,216 @@
+package software.amazon.amplify.common.cache;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
+import software.amazon.awssdk.services.amplify.model.CreateBranchRequest;
+import software.amazon.awssdk.services.amplify.model.GetAppRequest;
+import software.amazon.awssdk.services.amplify.model.GetAppResponse;
+import software.amazon.awssdk.services.amplify.model.GetBranchRequest;
+import software.amazon.awssdk.services.amplify.model.ListAppsRequest;
+import software.amazon.awssdk.services.amplify.model.TagResourceRequest;
+import software.amazon.awssdk.services.amplify.model.UpdateAppRequest;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReadCacheTest {
+    private static final String TYPE_NAME = "AWS::Amplify::App";
+    private static final String ARN_PREFIX = "arn:aws:amplify:us-west-2:123456789012:apps/";
+    private static final GetAppRequest GET_APP = GetAppRequest.builder().appId("app1").build();
+    private static final GetBranchRequest GET_BRANCH = GetBranchRequest.builder().appId("app1").branchName("main")
+            .build();
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @Test
+    public void getOrRead_ServesFreshResponseFromCache() {
+        final ReadCache cache = ReadCache.of(8, Duration.ofMinutes(1));
+
+        final GetAppResponse first = cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+        final GetAppResponse second = cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+
+        assertThat(second).isSameAs(first);
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getOrRead_KeysByOperationAsWellAsArn() {
+        final ReadCache cache = ReadCache.of(8, Duration.ofMinutes(1));
+
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GetBranchRequest.builder().appId("app1").build(), read());
+
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void getOrRead_ReadsAgainOnceTheResponseExpires() throws InterruptedException {
+        final ReadCache cache = ReadCache.of(8, Duration.ofMillis(20));
+
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+        TimeUnit.MILLISECONDS.sleep(40);
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getOrRead_EvictsLeastRecentlyUsedAtMaxEntries() {
+        final ReadCache cache = ReadCache.of(2, Duration.ofMinutes(1));
+
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+        cache.getOrRead(TYPE_NAME, appArn("app2"), GET_APP, read());
+        // app1 is now the most recently used, so app2 makes room for app3
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+        cache.getOrRead(TYPE_NAME, appArn("app3"), GET_APP, read());
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(reads.get()).isEqualTo(3);
+
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+        assertThat(reads.get()).isEqualTo(3);
+        cache.getOrRead(TYPE_NAME, appArn("app2"), GET_APP, read());
+        assertThat(reads.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void getOrRead_DoesNotStoreLoadThatOverlappedInvalidation() {
+        final ReadCache cache = ReadCache.of(8, Duration.ofMinutes(1));
+
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, () -> {
+            // An UpdateApp completes on another thread while GetApp is in flight; its response may predate it
+            cache.invalidate(UpdateAppRequest.builder().appId("app1").build());
+            return read().get();
+        });
+        assertThat(cache.size()).isZero();
+
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+        assertThat(reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidate_DropsOnlyTheMutatedApp() {
+        final ReadCache cache = ReadCache.of(8, Duration.ofMinutes(1));
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+        cache.getOrRead(TYPE_NAME, appArn("app1") + "/branches/main", GET_APP, read());
+        cache.getOrRead(TYPE_NAME, appArn("app2"), GET_APP, read());
+
+        cache.invalidate(UpdateAppRequest.builder().appId("app1").build());
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidate(TagResourceRequest.builder().resourceArn(appArn("app2")).build());
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void invalidate_ClearsEverythingForRequestWithoutAppId() {
+        final ReadCache cache = ReadCache.of(8, Duration.ofMinutes(1));
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+        cache.getOrRead(TYPE_NAME, appArn("app2"), GET_APP, read());
+
+        cache.invalidate(CreateAppRequest.builder().name("app3").build());
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void invalidate_IgnoresReads() {
+        final ReadCache cache = ReadCache.of(8, Duration.ofMinutes(1));
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+
+        cache.invalidate(GET_APP);
+        cache.invalidate(ListAppsRequest.builder().build());
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void getOrRead_AlwaysReadsWhenDisabled() {
+        final ReadCache cache = ReadCache.of(8, Duration.ZERO);
+
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+        cache.getOrRead(TYPE_NAME, appArn("app1"), GET_APP, read());
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void getOrRead_ReplaysNotFoundWithinItsTtl() {
+        final ReadCache cache = ReadCache.of(8, Duration.ZERO, Duration.ofMinutes(1));
+        final String branchArn = appArn("app1") + "/branches/main";
+
+        assertNotFound(() -> cache.getOrRead(TYPE_NAME, branchArn, GET_BRANCH, notFound()));
+        assertNotFound(() -> cache.getOrRead(TYPE_NAME, branchArn, GET_BRANCH, notFound()));
+        assertNotFound(() -> cache.readUnlessAbsent(TYPE_NAME, branchArn, GET_BRANCH, notFound()));
+
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void readUnlessAbsent_ReadsAgainOnceNotFoundExpires() throws InterruptedException {
+        final ReadCache cache = ReadCache.of(8, Duration.ZERO, Duration.ofMillis(20));
+        final String branchArn = appArn("app1") + "/branches/main";
+
+        assertNotFound(() -> cache.readUnlessAbsent(TYPE_NAME, branchArn, GET_BRANCH, notFound()));
+        TimeUnit.MILLISECONDS.sleep(40);
+        cache.readUnlessAbsent(TYPE_NAME, branchArn, GET_BRANCH, read());
+
+        assertThat(reads.get()).isEqualTo(2);
+        // Only absence is remembered when the response TTL is zero
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void invalidate_CreateOfSameAppClearsNotFound() {
+        final ReadCache cache = ReadCache.of(8, Duration.ZERO, Duration.ofMinutes(1));
+        final String branchArn = appArn("app1") + "/branches/main";
+        assertNotFound(() -> cache.readUnlessAbsent(TYPE_NAME, branchArn, GET_BRANCH, notFound()));
+        assertNotFound(() -> cache.readUnlessAbsent(TYPE_NAME, appArn("app2") + "/branches/main", GET_BRANCH,
+                notFound()));
+
+        cache.invalidate(CreateBranchRequest.builder().appId("app1").branchName("main").build());
+
+        cache.readUnlessAbsent(TYPE_NAME, branchArn, GET_BRANCH, read());
+        assertThat(reads.get()).isEqualTo(3);
+        // The other app's branch is still known to be absent
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void of_RejectsInvalidBounds() {
+        assertThatThrownBy(() -> ReadCache.of(0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReadCache.of(8, Duration.ofMinutes(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private <T> Supplier<T> notFound() {
+        return () -> {
+            reads.incrementAndGet();
+            throw new CfnNotFoundException(TYPE_NAME, "main");
+        };
+    }
+
+    private static void assertNotFound(final Runnable read) {
+        assertThatThrownBy(read::run).isInstanceOf(CfnNotFoundException.class);
+    }
+
+    private Supplier<GetAppResponse> read() {
+        return () -> {
+            reads.incrementAndGet();
+            return GetAppResponse.builder().build();
+        };
+    }
+
+    private static String appArn(final String appId) {
+        return ARN_PREFIX + appId;
+    }
+}
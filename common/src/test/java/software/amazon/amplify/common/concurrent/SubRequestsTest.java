@@ -0,0 +1,130 @@
+package software.amazon.amplify.common.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.amplify.common.metrics.CallMetric;
+import software.amazon.amplify.common.metrics.ClientMetrics;
+import software.amazon.amplify.common.metrics.MetricsSink;
+import software.amazon.amplify.common.retry.InvocationDeadline;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SubRequestsTest {
+    private static final String POOL_THREAD_PREFIX = "amplify-subrequest-";
+
+    private final List<CallMetric> metrics = new CopyOnWriteArrayList<>();
+    private MetricsSink previousSink;
+
+    @BeforeEach
+    public void setup() {
+        previousSink = ClientMetrics.getSink();
+        ClientMetrics.setSink(metrics::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ClientMetrics.setSink(previousSink);
+    }
+
+    @Test
+    public void callAlongside_ReturnsMainResultOnceOthersFinish() {
+        final AtomicInteger othersDone = new AtomicInteger();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final Supplier<Object> other = () -> {
+            threads.add(Thread.currentThread().getName());
+            othersDone.incrementAndGet();
+            return null;
+        };
+
+        final String result = SubRequests.callAlongside(() -> "updated", Arrays.asList(other, other));
+
+        assertThat(result).isEqualTo("updated");
+        assertThat(othersDone.get()).isEqualTo(2);
+        assertThat(threads).allMatch(name -> name.startsWith(POOL_THREAD_PREFIX));
+    }
+
+    @Test
+    public void callAlongside_CarriesActionAndDeadlineToPoolThreads() {
+        final List<Long> remainingMillis = new CopyOnWriteArrayList<>();
+        final Supplier<Object> other = () -> {
+            remainingMillis.add(InvocationDeadline.remainingMillis());
+            ClientMetrics.record("TagResource", "AWS::Amplify::App", System.nanoTime(), null);
+            return null;
+        };
+
+        InvocationDeadline.within(Duration.ofSeconds(5), () -> ClientMetrics.measure(UpdateHandler.class,
+                () -> SubRequests.callAlongside(() -> null, Collections.singletonList(other))));
+
+        assertThat(remainingMillis).hasSize(1);
+        assertThat(remainingMillis.get(0)).isBetween(1L, 5000L);
+        assertThat(metrics).extracting(CallMetric::getAction).containsExactly("Update");
+    }
+
+    @Test
+    public void callAlongside_SurfacesMainFailureBeforeOthers() {
+        final AtomicInteger othersDone = new AtomicInteger();
+        final Supplier<Object> failingOther = () -> {
+            othersDone.incrementAndGet();
+            throw new CfnInvalidRequestException("other");
+        };
+
+        assertThatThrownBy(() -> SubRequests.callAlongside(() -> {
+            throw new CfnNotFoundException("AWS::Amplify::App", "app1");
+        }, Collections.singletonList(failingOther)))
+                .isInstanceOf(CfnNotFoundException.class);
+        // The failing main call still waits for the other call
+        assertThat(othersDone.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void invokeAll_SurfacesEarliestFailureUnwrapped() {
+        final Supplier<Object> succeeds = () -> null;
+        final Supplier<Object> notFound = () -> {
+            throw new CfnNotFoundException("AWS::Amplify::App", "app1");
+        };
+        final Supplier<Object> invalid = () -> {
+            throw new CfnInvalidRequestException("invalid");
+        };
+
+        assertThatThrownBy(() -> SubRequests.invokeAll(Arrays.asList(succeeds, notFound, invalid)))
+                .isInstanceOf(CfnNotFoundException.class);
+    }
+
+    @Test
+    public void join_UnwrapsFailureOfStartedCall() {
+        final CompletableFuture<Object> pending = SubRequests.start(() -> {
+            throw new CfnNotFoundException("AWS::Amplify::App", "app1");
+        });
+
+        assertThatThrownBy(() -> SubRequests.join(pending))
+                .isInstanceOf(CfnNotFoundException.class);
+    }
+
+    @Test
+    public void start_CarriesActionAndDeadlineToPoolThread() {
+        final Long remainingMillis = InvocationDeadline.within(Duration.ofSeconds(5), () ->
+                ClientMetrics.measure(UpdateHandler.class, () -> SubRequests.join(SubRequests.start(() -> {
+                    ClientMetrics.record("ListApps", "AWS::Amplify::App", System.nanoTime(), null);
+                    return InvocationDeadline.remainingMillis();
+                }))));
+
+        assertThat(remainingMillis).isBetween(1L, 5000L);
+        assertThat(metrics).extracting(CallMetric::getAction).containsExactly("Update");
+    }
+
+    private static final class UpdateHandler {
+    }
+}
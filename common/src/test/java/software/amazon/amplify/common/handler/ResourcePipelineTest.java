@@ -0,0 +1,190 @@
+package software.amazon.amplify.common.handler;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.amplify.common.utils.ModelDiff;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourcePipelineTest {
+    private static final ModelDiff<Model> DIFF = ModelDiff.<Model>builder()
+            .property("Name", model -> model.name)
+            .build();
+
+    private final List<String> stagesRun = new ArrayList<>();
+    private final List<String> logLines = new ArrayList<>();
+
+    @Test
+    public void run_RunsStagesInOrderThenProjects() {
+        final ResourcePipeline<Model, StdCallbackContext> pipeline = builder()
+                .validate(invocation -> stagesRun.add("validate"))
+                .mutate(continuing("mutate"))
+                .tag(continuing("tag"))
+                .stabilize(continuing("stabilize"))
+                .project(succeeding("project"))
+                .build();
+
+        final ProgressEvent<Model, StdCallbackContext> result = pipeline.run(invocation(null, new Model("app")));
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(stagesRun).containsExactly("validate", "mutate", "tag", "stabilize", "project");
+    }
+
+    @Test
+    public void run_StageReturningCallbackDelayEndsTheInvocation() {
+        final ResourcePipeline<Model, StdCallbackContext> pipeline = builder()
+                .mutate(continuing("mutate"))
+                .tag(continuing("tag"))
+                .stabilize((invocation, progress) -> {
+                    stagesRun.add("stabilize");
+                    return ProgressEvent.defaultInProgressHandler(invocation.getCallbackContext(), 30,
+                            invocation.getModel());
+                })
+                .project(succeeding("project"))
+                .build();
+
+        final ProgressEvent<Model, StdCallbackContext> result = pipeline.run(invocation(null, new Model("app")));
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(result.getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(stagesRun).containsExactly("mutate", "tag", "stabilize");
+    }
+
+    @Test
+    public void run_StageReturningSuccessSkipsTheRemainingStages() {
+        final ResourcePipeline<Model, StdCallbackContext> pipeline = builder()
+                .mutate(succeeding("mutate"))
+                .tag(continuing("tag"))
+                .project(succeeding("project"))
+                .build();
+
+        final ProgressEvent<Model, StdCallbackContext> result = pipeline.run(invocation(null, new Model("app")));
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(stagesRun).containsExactly("mutate");
+    }
+
+    @Test
+    public void run_UpdateThatChangesNothingOnlyProjects() {
+        final ResourcePipeline<Model, StdCallbackContext> pipeline = builder()
+                .diff(DIFF)
+                .mutate(continuing("mutate"))
+                .tag(continuing("tag"))
+                .project(succeeding("project"))
+                .build();
+        final Invocation<Model, StdCallbackContext> invocation = invocation(new Model("app"), new Model("app"));
+
+        final ProgressEvent<Model, StdCallbackContext> result = pipeline.run(invocation);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(stagesRun).containsExactly("project");
+        assertThat(invocation.getChangedProperties()).isEmpty();
+        assertThat(logLines).anyMatch(line -> line.contains("no mutable properties changed"));
+    }
+
+    @Test
+    public void run_UpdateRecordsChangedPropertiesForTheStages() {
+        final List<Object> changedSeenByMutate = new ArrayList<>();
+        final ResourcePipeline<Model, StdCallbackContext> pipeline = builder()
+                .diff(DIFF)
+                .mutate((invocation, progress) -> {
+                    changedSeenByMutate.addAll(invocation.getChangedProperties());
+                    return progress;
+                })
+                .project(succeeding("project"))
+                .build();
+
+        pipeline.run(invocation(new Model("app"), new Model("renamed")));
+
+        assertThat(changedSeenByMutate).containsExactly("Name");
+        assertThat(stagesRun).containsExactly("project");
+    }
+
+    @Test
+    public void run_ProjectedModelIsReturnedWithoutTheProjectStage() {
+        final Model projected = new Model("complete");
+        final ResourcePipeline<Model, StdCallbackContext> pipeline = builder()
+                .mutate((invocation, progress) -> {
+                    stagesRun.add("mutate");
+                    invocation.setProjectedModel(projected);
+                    return progress;
+                })
+                .tag(continuing("tag"))
+                .project(succeeding("project"))
+                .build();
+
+        final ProgressEvent<Model, StdCallbackContext> result = pipeline.run(invocation(null, new Model("app")));
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(result.getResourceModel()).isSameAs(projected);
+        assertThat(stagesRun).containsExactly("mutate", "tag");
+    }
+
+    @Test
+    public void run_FailedValidationMakesNoCalls() {
+        final ResourcePipeline<Model, StdCallbackContext> pipeline = builder()
+                .validate(invocation -> {
+                    throw new IllegalArgumentException("invalid");
+                })
+                .mutate(continuing("mutate"))
+                .project(succeeding("project"))
+                .build();
+
+        assertThatThrownBy(() -> pipeline.run(invocation(null, new Model("app"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(stagesRun).isEmpty();
+    }
+
+    @Test
+    public void build_RequiresMutateAndProject() {
+        assertThatThrownBy(() -> builder()
+                .mutate(continuing("mutate"))
+                .build())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> builder()
+                .project(succeeding("project"))
+                .build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ResourcePipeline.Builder<Model, StdCallbackContext> builder() {
+        return ResourcePipeline.builder();
+    }
+
+    private Invocation<Model, StdCallbackContext> invocation(final Model previous, final Model desired) {
+        final ResourceHandlerRequest<Model> request = ResourceHandlerRequest.<Model>builder()
+                .previousResourceState(previous)
+                .desiredResourceState(desired)
+                .build();
+        return new Invocation<>(null, request, new StdCallbackContext(), null, logLines::add);
+    }
+
+    private Stage<Model, StdCallbackContext> continuing(final String name) {
+        return (invocation, progress) -> {
+            stagesRun.add(name);
+            return progress;
+        };
+    }
+
+    private Stage<Model, StdCallbackContext> succeeding(final String name) {
+        return (invocation, progress) -> {
+            stagesRun.add(name);
+            return ProgressEvent.defaultSuccessHandler(invocation.getModel());
+        };
+    }
+
+    public static final class Model {
+        public final String name;
+
+        Model(final String name) {
+            this.name = name;
+        }
+    }
+}
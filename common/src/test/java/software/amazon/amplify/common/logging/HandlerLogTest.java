@@ -0,0 +1,74 @@
+package software.amazon.amplify.common.logging;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.amplify.model.AutoBranchCreationConfig;
+import software.amazon.awssdk.services.amplify.model.CreateAppRequest;
+import software.amazon.awssdk.services.amplify.model.UpdateBranchRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandlerLogTest {
+
+    @Test
+    public void render_MasksEnvironmentVariablesAndCredentialsOfSdkRequests() {
+        final CreateAppRequest request = CreateAppRequest.builder()
+                .name("app")
+                .oauthToken("secretOauthToken")
+                .basicAuthCredentials("secretCredentials")
+                .environmentVariables(Collections.singletonMap("DB_PASSWORD", "secretEnvValue"))
+                .autoBranchCreationConfig(AutoBranchCreationConfig.builder()
+                        .basicAuthCredentials("secretBranchCredentials")
+                        .environmentVariables(Collections.singletonMap("API_KEY", "secretBranchEnvValue"))
+                        .build())
+                .build();
+
+        final String rendered = HandlerLog.render(request);
+
+        assertThat(rendered).startsWith("CreateAppRequest")
+                .contains("\"Name\":\"app\"", "DB_PASSWORD", "API_KEY", HandlerLog.REDACTED);
+        assertThat(rendered).doesNotContain("secretOauthToken", "secretCredentials", "secretEnvValue",
+                "secretBranchCredentials", "secretBranchEnvValue");
+    }
+
+    @Test
+    public void render_TruncatesLargeMembersOfSdkRequests() {
+        final String buildSpec = String.join("", Collections.nCopies(1000, "version: 1\n"));
+        final UpdateBranchRequest request = UpdateBranchRequest.builder()
+                .appId("appId")
+                .branchName("main")
+                .buildSpec(buildSpec)
+                .environmentVariables(Collections.singletonMap("STAGE", "secretStage"))
+                .build();
+
+        final String rendered = HandlerLog.render(request);
+
+        assertThat(rendered).contains("\"BranchName\":\"main\"", "STAGE",
+                "truncated, " + buildSpec.length() + " chars");
+        assertThat(rendered).doesNotContain(buildSpec, "secretStage");
+    }
+
+    @Test
+    public void log_FormatsOnlyEnabledLevels() {
+        final LogLevel previousLevel = HandlerLog.getLevel();
+        final List<String> lines = new ArrayList<>();
+        final Object failOnRender = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("rendered a disabled line");
+            }
+        };
+        try {
+            HandlerLog.setLevel(LogLevel.INFO);
+            HandlerLog.debug(lines::add, "request: %s", failOnRender);
+            HandlerLog.info(lines::add, "model: %s", "m");
+        } finally {
+            HandlerLog.setLevel(previousLevel);
+        }
+
+        assertThat(lines).containsExactly("INFO: model: m");
+    }
+}
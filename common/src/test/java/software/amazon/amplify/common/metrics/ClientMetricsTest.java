@@ -0,0 +1,139 @@
+package software.amazon.amplify.common.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientMetricsTest {
+    private final List<CallMetric> metrics = new ArrayList<>();
+    private final AtomicInteger flushes = new AtomicInteger();
+    private MetricsSink previousSink;
+
+    @BeforeEach
+    public void setup() {
+        previousSink = ClientMetrics.getSink();
+        ClientMetrics.setSink(new MetricsSink() {
+            @Override
+            public void record(final CallMetric metric) {
+                metrics.add(metric);
+            }
+
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ClientMetrics.setSink(previousSink);
+    }
+
+    @Test
+    public void record_AttributesCallToMeasuredAction() {
+        ClientMetrics.measure(CreateHandler.class, () -> {
+            ClientMetrics.record("CreateApp", "AWS::Amplify::App", System.nanoTime(), null);
+            return null;
+        });
+
+        assertThat(metrics).hasSize(1);
+        assertThat(metrics.get(0).getOperation()).isEqualTo("CreateApp");
+        assertThat(metrics.get(0).getAction()).isEqualTo("Create");
+        assertThat(metrics.get(0).getResourceTypeName()).isEqualTo("AWS::Amplify::App");
+        assertThat(metrics.get(0).getLatencyMillis()).isGreaterThanOrEqualTo(0);
+        assertThat(metrics.get(0).getErrorType()).isNull();
+        assertThat(metrics.get(0).isThrottled()).isFalse();
+        assertThat(flushes.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void record_UsesUnknownActionOutsideMeasuredInvocation() {
+        ClientMetrics.record("GetApp", "AWS::Amplify::App", System.nanoTime(), null);
+
+        assertThat(metrics.get(0).getAction()).isEqualTo(ClientMetrics.UNKNOWN_ACTION);
+        assertThat(flushes.get()).isZero();
+    }
+
+    @Test
+    public void record_FlagsThrottlesAndQuotaErrors() {
+        ClientMetrics.record("GetApp", "AWS::Amplify::App", System.nanoTime(),
+                new CfnThrottlingException("GetApp", new RuntimeException()));
+        ClientMetrics.record("CreateApp", "AWS::Amplify::App", System.nanoTime(),
+                new CfnServiceLimitExceededException("AWS::Amplify::App", "quota"));
+        ClientMetrics.record("GetApp", "AWS::Amplify::App", System.nanoTime(),
+                new CfnNotFoundException("AWS::Amplify::App", "id"));
+
+        assertThat(metrics).extracting(CallMetric::getErrorType).containsExactly(
+                "CfnThrottlingException", "CfnServiceLimitExceededException", "CfnNotFoundException");
+        assertThat(metrics).extracting(CallMetric::isThrottled).containsExactly(true, true, false);
+    }
+
+    @Test
+    public void measure_FlushesOnlyWhenOutermostInvocationCompletes() {
+        ClientMetrics.measure(UpdateHandler.class, () -> ClientMetrics.measure(ReadHandler.class, () -> {
+            ClientMetrics.record("GetApp", "AWS::Amplify::App", System.nanoTime(), null);
+            return null;
+        }));
+
+        assertThat(metrics.get(0).getAction()).isEqualTo("Read");
+        assertThat(flushes.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void propagate_CarriesActionToAnotherThread() {
+        final CompletableFuture<Void> call = ClientMetrics.measure(DeleteHandler.class, () ->
+                CompletableFuture.supplyAsync(ClientMetrics.propagate(() -> {
+                    ClientMetrics.record("DeleteApp", "AWS::Amplify::App", System.nanoTime(), null);
+                    return null;
+                })));
+        call.join();
+
+        assertThat(metrics.get(0).getAction()).isEqualTo("Delete");
+    }
+
+    @Test
+    public void setSink_FallsBackToNoOpForNull() {
+        ClientMetrics.setSink(null);
+
+        assertThat(ClientMetrics.getSink()).isSameAs(MetricsSink.NO_OP);
+    }
+
+    @Test
+    public void defaultSink_PrintsEmfOnlyInsideLambda() {
+        assertThat(ClientMetrics.defaultSink("aws-amplify-app-handler")).isInstanceOf(EmfMetricsSink.class);
+        assertThat(ClientMetrics.defaultSink(null)).isSameAs(MetricsSink.NO_OP);
+        assertThat(ClientMetrics.defaultSink("")).isSameAs(MetricsSink.NO_OP);
+    }
+
+    @Test
+    public void actionName_StripsHandlerSuffix() {
+        assertThat(ClientMetrics.actionName(CreateHandler.class)).isEqualTo("Create");
+        assertThat(ClientMetrics.actionName(Handler.class)).isEqualTo("Handler");
+    }
+
+    private static final class CreateHandler {
+    }
+
+    private static final class ReadHandler {
+    }
+
+    private static final class UpdateHandler {
+    }
+
+    private static final class DeleteHandler {
+    }
+
+    private static final class Handler {
+    }
+}
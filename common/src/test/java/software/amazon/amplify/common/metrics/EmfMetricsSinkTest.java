@@ -0,0 +1,105 @@
+package software.amazon.amplify.common.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmfMetricsSinkTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final EmfMetricsSink sink = new EmfMetricsSink(new PrintStream(output, true));
+
+    @Test
+    public void flush_WritesOneRecordPerOperationActionAndErrorType() throws IOException {
+        sink.record(metric("GetApp", null, 10.0, false));
+        sink.record(metric("GetApp", null, 20.0, false));
+        sink.record(metric("GetApp", "CfnThrottlingException", 5.0, true));
+        sink.record(metric("ListTagsForResource", null, 7.5, false));
+
+        assertThat(output.size()).isZero();
+        sink.flush();
+
+        final List<JsonNode> records = records();
+        assertThat(records).hasSize(3);
+
+        final JsonNode succeeded = records.get(0);
+        assertThat(succeeded.get("Operation").asText()).isEqualTo("GetApp");
+        assertThat(succeeded.get("Action").asText()).isEqualTo("Read");
+        assertThat(succeeded.get("ResourceType").asText()).isEqualTo("AWS::Amplify::App");
+        assertThat(succeeded.get("ErrorType").asText()).isEqualTo("None");
+        assertThat(succeeded.get("Latency").toString()).isEqualTo("[10.0,20.0]");
+        assertThat(succeeded.get("Calls").asInt()).isEqualTo(2);
+        assertThat(succeeded.get("Throttles").asInt()).isZero();
+
+        final JsonNode throttled = records.get(1);
+        assertThat(throttled.get("ErrorType").asText()).isEqualTo("CfnThrottlingException");
+        assertThat(throttled.get("Calls").asInt()).isEqualTo(1);
+        assertThat(throttled.get("Throttles").asInt()).isEqualTo(1);
+
+        assertThat(records.get(2).get("Operation").asText()).isEqualTo("ListTagsForResource");
+    }
+
+    @Test
+    public void flush_WritesEmbeddedMetricFormatMetadata() throws IOException {
+        sink.record(metric("GetApp", null, 10.0, false));
+        sink.flush();
+
+        final JsonNode directive = records().get(0).get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(records().get(0).get("_aws").get("Timestamp").isNumber()).isTrue();
+        assertThat(directive.get("Namespace").asText()).isEqualTo(EmfMetricsSink.NAMESPACE);
+        assertThat(directive.get("Dimensions").toString())
+                .isEqualTo("[[\"Operation\",\"Action\"],[\"Operation\",\"ErrorType\"]]");
+        assertThat(directive.get("Metrics").toString()).isEqualTo("[{\"Name\":\"Latency\",\"Unit\":\"Milliseconds\"},"
+                + "{\"Name\":\"Calls\",\"Unit\":\"Count\"},{\"Name\":\"Throttles\",\"Unit\":\"Count\"}]");
+    }
+
+    @Test
+    public void record_WritesAggregateOnceItHoldsMaxValues() throws IOException {
+        for (int i = 0; i < EmfMetricsSink.MAX_VALUES + 1; i++) {
+            sink.record(metric("GetApp", null, i, false));
+        }
+
+        assertThat(records()).hasSize(1);
+        assertThat(records().get(0).get("Calls").asInt()).isEqualTo(EmfMetricsSink.MAX_VALUES);
+
+        sink.flush();
+        assertThat(records()).hasSize(2);
+        assertThat(records().get(1).get("Calls").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void flush_ClearsAggregates() throws IOException {
+        sink.record(metric("GetApp", null, 10.0, false));
+        sink.flush();
+        sink.flush();
+
+        assertThat(records()).hasSize(1);
+    }
+
+    private static CallMetric metric(final String operation,
+                                     final String errorType,
+                                     final double latencyMillis,
+                                     final boolean throttled) {
+        return new CallMetric(operation, "Read", "AWS::Amplify::App", latencyMillis, errorType, throttled);
+    }
+
+    private List<JsonNode> records() throws IOException {
+        final List<JsonNode> records = new ArrayList<>();
+        for (final String line : new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n")) {
+            if (!line.trim().isEmpty()) {
+                records.add(MAPPER.readTree(line));
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,139 @@
+package software.amazon.amplify.common.paging;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.amplify.common.retry.InvocationDeadline;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PageAggregatorTest {
+    private static final int PAGE_SIZE = 2;
+    private static final int UNBOUNDED_MODELS = 1000;
+
+    private final List<String> fetchedTokens = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void aggregate_FollowsTokensUntilListingIsExhausted() {
+        final PageAggregator.Page<String> page = PageAggregator.aggregate(null, PAGE_SIZE, UNBOUNDED_MODELS,
+                pages(3, 0L), FakePage::getModels, FakePage::getNextToken);
+
+        assertThat(page.getModels()).containsExactly("m0-0", "m0-1", "m1-0", "m1-1", "m2-0", "m2-1");
+        assertThat(page.getNextToken()).isNull();
+        assertThat(fetchedTokens).containsExactly(null, "t1", "t2");
+    }
+
+    @Test
+    public void aggregate_ResumesFromGivenToken() {
+        final PageAggregator.Page<String> page = PageAggregator.aggregate("t2", PAGE_SIZE, UNBOUNDED_MODELS,
+                pages(3, 0L), FakePage::getModels, FakePage::getNextToken);
+
+        assertThat(page.getModels()).containsExactly("m2-0", "m2-1");
+        assertThat(page.getNextToken()).isNull();
+    }
+
+    @Test
+    public void aggregate_EmptyTokenEndsListing() {
+        final PageAggregator.Page<String> page = PageAggregator.aggregate(null, PAGE_SIZE, UNBOUNDED_MODELS,
+                token -> new FakePage(Arrays.asList("m0-0"), ""), FakePage::getModels, FakePage::getNextToken);
+
+        assertThat(page.getModels()).containsExactly("m0-0");
+        assertThat(page.getNextToken()).isNull();
+    }
+
+    @Test
+    public void aggregate_StopsBeforeAPageCouldExceedModelBudget() {
+        // After two pages another full page would make 6 models, over the budget of 5
+        final PageAggregator.Page<String> page = PageAggregator.aggregate(null, PAGE_SIZE, 5,
+                pages(10, 0L), FakePage::getModels, FakePage::getNextToken);
+
+        assertThat(page.getModels()).hasSize(4);
+        assertThat(page.getNextToken()).isEqualTo("t2");
+        assertThat(fetchedTokens).containsExactly(null, "t1");
+    }
+
+    @Test
+    public void aggregate_StopsWhenRemainingTimeIsUnderTwiceTheSlowestPage() {
+        // The second page takes 800ms, leaving about 1200ms of the 2000ms budget: less than twice the slowest page
+        final Function<String, FakePage> fetch = pages(10, 0L);
+        final Function<String, FakePage> slowSecondPage = token -> {
+            if ("t1".equals(token)) {
+                sleep(800L);
+            }
+            return fetch.apply(token);
+        };
+
+        final PageAggregator.Page<String> page = InvocationDeadline.within(Duration.ofMillis(2000), () ->
+                PageAggregator.aggregate(null, PAGE_SIZE, UNBOUNDED_MODELS, slowSecondPage,
+                        FakePage::getModels, FakePage::getNextToken));
+
+        assertThat(page.getModels()).containsExactly("m0-0", "m0-1", "m1-0", "m1-1");
+        assertThat(page.getNextToken()).isEqualTo("t2");
+        assertThat(fetchedTokens).containsExactly(null, "t1");
+    }
+
+    @Test
+    public void aggregate_KeepsPagingWhileTimeCoversTwiceTheSlowestPage() {
+        final PageAggregator.Page<String> page = InvocationDeadline.within(Duration.ofSeconds(30), () ->
+                PageAggregator.aggregate(null, PAGE_SIZE, UNBOUNDED_MODELS, pages(4, 10L),
+                        FakePage::getModels, FakePage::getNextToken));
+
+        assertThat(page.getModels()).hasSize(8);
+        assertThat(page.getNextToken()).isNull();
+    }
+
+    @Test
+    public void aggregate_TranslationFailureWaitsForPrefetchAndPropagates() {
+        assertThatThrownBy(() -> PageAggregator.aggregate(null, PAGE_SIZE, UNBOUNDED_MODELS, pages(3, 0L),
+                (FakePage response) -> {
+                    throw new IllegalStateException("translate");
+                }, FakePage::getNextToken))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(fetchedTokens).containsExactly(null, "t1");
+    }
+
+    private Function<String, FakePage> pages(final int count, final long pageMillis) {
+        return token -> {
+            fetchedTokens.add(token);
+            sleep(pageMillis);
+            final int index = token == null ? 0 : Integer.parseInt(token.substring(1));
+            final String next = index + 1 < count ? "t" + (index + 1) : null;
+            return new FakePage(Arrays.asList("m" + index + "-0", "m" + index + "-1"), next);
+        };
+    }
+
+    private static void sleep(final long millis) {
+        if (millis == 0L) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class FakePage {
+        private final List<String> models;
+        private final String nextToken;
+
+        FakePage(final List<String> models, final String nextToken) {
+            this.models = models;
+            this.nextToken = nextToken;
+        }
+
+        List<String> getModels() {
+            return models;
+        }
+
+        String getNextToken() {
+            return nextToken;
+        }
+    }
+}
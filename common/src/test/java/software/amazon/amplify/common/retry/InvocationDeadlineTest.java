@@ -0,0 +1,64 @@
+package software.amazon.amplify.common.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InvocationDeadlineTest {
+    @Test
+    public void remainingMillis_UnboundedOutsideInvocation() {
+        assertThat(InvocationDeadline.remainingMillis()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void within_BoundsRemainingTimeByBudget() {
+        final long remaining = InvocationDeadline.within(Duration.ofSeconds(10), InvocationDeadline::remainingMillis);
+
+        assertThat(remaining).isBetween(1L, 10_000L);
+        assertThat(InvocationDeadline.remainingMillis()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void within_NestedCallKeepsOutermostDeadline() {
+        final long remaining = InvocationDeadline.within(Duration.ofSeconds(10), () ->
+                InvocationDeadline.within(Duration.ofSeconds(60), InvocationDeadline::remainingMillis));
+
+        assertThat(remaining).isBetween(1L, 10_000L);
+    }
+
+    @Test
+    public void withRemainingTime_CapsBudgetByLambdaRemainingTimeLessReserve() {
+        final AtomicLong remaining = new AtomicLong();
+        final long lambdaRemainingMillis = InvocationDeadline.LAMBDA_RESERVE.toMillis() + 2_000L;
+
+        InvocationDeadline.withRemainingTime(lambdaRemainingMillis, () ->
+                remaining.set(InvocationDeadline.within(Duration.ofSeconds(30), InvocationDeadline::remainingMillis)));
+
+        assertThat(remaining.get()).isBetween(1L, 2_000L);
+    }
+
+    @Test
+    public void withRemainingTime_KeepsBudgetWhenLambdaHasMoreTime() {
+        final AtomicLong remaining = new AtomicLong();
+
+        InvocationDeadline.withRemainingTime(Duration.ofMinutes(15).toMillis(), () ->
+                remaining.set(InvocationDeadline.within(Duration.ofSeconds(10), InvocationDeadline::remainingMillis)));
+
+        assertThat(remaining.get()).isBetween(1L, 10_000L);
+    }
+
+    @Test
+    public void withRemainingTime_ClearsCapAndPropagatesFailure() {
+        assertThatThrownBy(() -> InvocationDeadline.withRemainingTime(0L, () -> {
+            throw new IOException("stream closed");
+        })).isInstanceOf(IOException.class);
+
+        final long remaining = InvocationDeadline.within(Duration.ofSeconds(10), InvocationDeadline::remainingMillis);
+        assertThat(remaining).isGreaterThan(5_000L);
+    }
+}
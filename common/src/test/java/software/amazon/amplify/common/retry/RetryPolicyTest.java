@@ -0,0 +1,114 @@
+package software.amazon.amplify.common.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RetryPolicyTest {
+    private final RetryPolicy policy = RetryPolicy.builder()
+            .retryOn(IllegalStateException.class)
+            .maxAttempts(3)
+            .baseDelay(Duration.ofMillis(1))
+            .maxDelay(Duration.ofMillis(2))
+            .build();
+
+    @Test
+    public void execute_RetriesRetryableFailuresUntilSuccess() {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger retries = new AtomicInteger();
+
+        final String result = policy.execute(failingTimes(2, calls), (e, attempt) -> retries.incrementAndGet());
+
+        assertThat(result).isEqualTo("done");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(retries.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void execute_SurfacesLastFailureOnceAttemptsAreExhausted() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> policy.execute(failingTimes(3, calls), (e, attempt) -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failure 3");
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void execute_DoesNotRetryFailuresOutsideThePolicyOrNotPermitted() {
+        final AtomicInteger calls = new AtomicInteger();
+        assertThatThrownBy(() -> policy.execute(() -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("not retryable");
+        }, (e, attempt) -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(calls.get()).isEqualTo(1);
+
+        final AtomicInteger notPermittedCalls = new AtomicInteger();
+        assertThatThrownBy(() -> policy.execute(failingTimes(1, notPermittedCalls), e -> false, (e, attempt) -> { }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(notPermittedCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void execute_DoesNotBackOffPastTheInvocationDeadline() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> InvocationDeadline.within(Duration.ZERO,
+                () -> policy.execute(failingTimes(1, calls), (e, attempt) -> { })))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void execute_StopsRetryingWhenInterrupted() {
+        final AtomicInteger calls = new AtomicInteger();
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> policy.execute(failingTimes(1, calls), (e, attempt) -> { }))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void backoffMillis_IsJitteredBelowTheCappedExponentialDelay() {
+        final RetryPolicy backoff = RetryPolicy.builder()
+                .baseDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofMillis(1000))
+                .build();
+        for (int i = 0; i < 100; i++) {
+            assertThat(backoff.backoffMillis(1)).isBetween(0L, 100L);
+            assertThat(backoff.backoffMillis(3)).isBetween(0L, 400L);
+            assertThat(backoff.backoffMillis(10)).isBetween(0L, 1000L);
+            assertThat(backoff.backoffMillis(64)).isBetween(0L, 1000L);
+        }
+    }
+
+    @Test
+    public void builder_RejectsInvalidSettings() {
+        assertThatThrownBy(() -> RetryPolicy.builder().maxAttempts(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RetryPolicy.builder().baseDelay(Duration.ofSeconds(2)).maxDelay(Duration.ofSeconds(1))
+                .build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Supplier<String> failingTimes(final int failures, final AtomicInteger calls) {
+        return () -> {
+            final int call = calls.incrementAndGet();
+            if (call <= failures) {
+                throw new IllegalStateException("failure " + call);
+            }
+            return "done";
+        };
+    }
+}
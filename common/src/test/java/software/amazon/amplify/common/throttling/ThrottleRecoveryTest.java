@@ -0,0 +1,59 @@
+package software.amazon.amplify.common.throttling;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ThrottleRecoveryTest {
+    private static final String MODEL = "model";
+
+    private final Supplier<ProgressEvent<String, StdCallbackContext>> throttled = () -> {
+        throw new CfnThrottlingException("UpdateApp", new RuntimeException("Rate exceeded"));
+    };
+
+    @Test
+    public void deferOnThrottle_SurfacesThrottleAfterMaxConsecutiveDeferrals() {
+        final StdCallbackContext context = new StdCallbackContext();
+        for (int deferral = 0; deferral < ThrottleRecovery.MAX_DEFERRALS; deferral++) {
+            final ProgressEvent<String, StdCallbackContext> event =
+                    ThrottleRecovery.deferOnThrottle(throttled, MODEL, context);
+            assertThat(event.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            assertThat(event.getCallbackDelaySeconds()).isPositive();
+        }
+
+        assertThatThrownBy(() -> ThrottleRecovery.deferOnThrottle(throttled, MODEL, context))
+                .isInstanceOf(CfnThrottlingException.class);
+    }
+
+    @Test
+    public void deferOnThrottle_UnthrottledInvocationResetsDeferrals() {
+        final StdCallbackContext context = new StdCallbackContext();
+        for (int stage = 0; stage < 3; stage++) {
+            for (int deferral = 0; deferral < ThrottleRecovery.MAX_DEFERRALS; deferral++) {
+                assertThat(ThrottleRecovery.deferOnThrottle(throttled, MODEL, context).getStatus())
+                        .isEqualTo(OperationStatus.IN_PROGRESS);
+            }
+            // The stage gets through and hands over to the next one
+            final ProgressEvent<String, StdCallbackContext> progressed = ThrottleRecovery.deferOnThrottle(
+                    () -> ProgressEvent.defaultInProgressHandler(context, 0, MODEL), MODEL, context);
+            assertThat(progressed.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            assertThat(context.attempts(ThrottleRecovery.ATTEMPTS_KEY)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void callbackDelaySeconds_StaysWithinJitteredBounds() {
+        for (int deferrals = 0; deferrals < 8; deferrals++) {
+            final int ceiling = Math.min(ThrottleRecovery.MAX_DELAY_SECONDS,
+                    ThrottleRecovery.BASE_DELAY_SECONDS << Math.min(deferrals, 4));
+            assertThat(ThrottleRecovery.callbackDelaySeconds(deferrals)).isBetween(ceiling / 2, ceiling);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package software.amazon.amplify.common.utils;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.amplify.common.utils.AmplifyArn.ResourceKind;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AmplifyArnTest {
+    private static final String APP_ARN = "arn:aws:amplify:us-west-2:123456789012:apps/d1abcd2efgh";
+
+    @Test
+    public void parse_AppArn() {
+        final AmplifyArn arn = AmplifyArn.parse(APP_ARN);
+
+        assertThat(arn.getPartition()).isEqualTo("aws");
+        assertThat(arn.getRegion()).isEqualTo("us-west-2");
+        assertThat(arn.getAccount()).isEqualTo("123456789012");
+        assertThat(arn.getAppId()).isEqualTo("d1abcd2efgh");
+        assertThat(arn.getResourceKind()).isEqualTo(ResourceKind.APP);
+        assertThat(arn.getResourceName()).isNull();
+        assertThat(arn.toString()).isEqualTo(APP_ARN);
+    }
+
+    @Test
+    public void parse_BranchArn() {
+        final AmplifyArn arn = AmplifyArn.parse(APP_ARN + "/branches/main");
+
+        assertThat(arn.getAppId()).isEqualTo("d1abcd2efgh");
+        assertThat(arn.getResourceKind()).isEqualTo(ResourceKind.BRANCH);
+        assertThat(arn.getResourceName()).isEqualTo("main");
+    }
+
+    @Test
+    public void parse_BranchNameContainingSlashes() {
+        final AmplifyArn arn = AmplifyArn.parse(APP_ARN + "/branches/feature/login/v2");
+
+        assertThat(arn.getResourceKind()).isEqualTo(ResourceKind.BRANCH);
+        assertThat(arn.getResourceName()).isEqualTo("feature/login/v2");
+    }
+
+    @Test
+    public void parse_DomainArnInOtherPartition() {
+        final AmplifyArn arn =
+                AmplifyArn.parse("arn:aws-cn:amplify:cn-north-1:123456789012:apps/d1/domains/example.com");
+
+        assertThat(arn.getPartition()).isEqualTo("aws-cn");
+        assertThat(arn.getRegion()).isEqualTo("cn-north-1");
+        assertThat(arn.getAppId()).isEqualTo("d1");
+        assertThat(arn.getResourceKind()).isEqualTo(ResourceKind.DOMAIN);
+        assertThat(arn.getResourceName()).isEqualTo("example.com");
+    }
+
+    @Test
+    public void parse_RejectsMissingOrEmptyNames() {
+        assertInvalid(APP_ARN + "/");
+        assertInvalid(APP_ARN + "/branches");
+        assertInvalid(APP_ARN + "/branches/");
+        assertInvalid(APP_ARN + "/domains/");
+        assertInvalid("arn:aws:amplify:us-west-2:123456789012:apps/");
+        assertInvalid("arn:aws:amplify:us-west-2:123456789012:apps//branches/main");
+    }
+
+    @Test
+    public void parse_RejectsMalformedAndNonAmplifyArns() {
+        assertInvalid(null);
+        assertInvalid("");
+        assertInvalid("d1abcd2efgh");
+        assertInvalid("arn:aws");
+        assertInvalid("arn:aws:amplify");
+        assertInvalid("arn:aws:amplify:us-west-2");
+        assertInvalid("arn:aws:amplify:us-west-2:123456789012");
+        assertInvalid("arn:aws:amplifyx:us-west-2:123456789012:apps/d1");
+        assertInvalid("arn:aws:s3:::bucket/apps/d1");
+        assertInvalid("arn:aws:amplify:us-west-2:123456789012:jobs/d1");
+        assertInvalid(APP_ARN + "/webhooks/hook");
+    }
+
+    @Test
+    public void parse_RejectsWrongResourceKind() {
+        assertThat(AmplifyArn.parse(APP_ARN + "/domains/example.com", ResourceKind.DOMAIN).getResourceName())
+                .isEqualTo("example.com");
+        assertThatThrownBy(() -> AmplifyArn.parse(APP_ARN + "/domains/example.com", ResourceKind.BRANCH))
+                .isInstanceOf(CfnInvalidRequestException.class);
+        assertThatThrownBy(() -> AmplifyArn.parse(APP_ARN, ResourceKind.BRANCH))
+                .isInstanceOf(CfnInvalidRequestException.class);
+        assertThatThrownBy(() -> AmplifyArn.parse(APP_ARN + "/branches/main", ResourceKind.APP))
+                .isInstanceOf(CfnInvalidRequestException.class);
+    }
+
+    @Test
+    public void parse_CachesUntilTheBoundIsReached() {
+        final String arn = APP_ARN + "/branches/cached";
+        final AmplifyArn parsed = AmplifyArn.parse(arn);
+
+        assertThat(AmplifyArn.parse(arn)).isSameAs(parsed);
+
+        // Enough new ARNs to fill the cache, which then starts over
+        for (int i = 0; i < AmplifyArn.MAX_CACHED; i++) {
+            AmplifyArn.parse(APP_ARN + "/branches/filler-" + i);
+        }
+        final AmplifyArn reparsed = AmplifyArn.parse(arn);
+        assertThat(reparsed).isNotSameAs(parsed);
+        assertThat(reparsed).isEqualTo(parsed);
+        assertThat(reparsed.hashCode()).isEqualTo(parsed.hashCode());
+    }
+
+    private static void assertInvalid(final String arn) {
+        assertThatThrownBy(() -> AmplifyArn.parse(arn))
+                .isInstanceOf(CfnInvalidRequestException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package software.amazon.amplify.common.utils;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.amplify.model.GetAppRequest;
+import software.amazon.awssdk.services.amplify.model.GetAppResponse;
+import software.amazon.awssdk.services.amplify.model.LimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ClientWrapperTest {
+    private static final String TYPE_NAME = "AWS::Amplify::App";
+    private static final LoggerProxy LOGGER = new LoggerProxy();
+
+    private final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(LOGGER,
+            new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofSeconds(600).toMillis());
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    public void execute_RateExceededLimitIsThrottle() {
+        assertThatThrownBy(() -> getAppFailingWith(limitExceeded("Rate exceeded")))
+                .isInstanceOf(CfnThrottlingException.class);
+        assertThatThrownBy(() -> getAppFailingWith(limitExceeded("Too Many Requests")))
+                .isInstanceOf(CfnThrottlingException.class);
+        assertThatThrownBy(() -> getAppFailingWith(limitExceeded("Request was throttled")))
+                .isInstanceOf(CfnThrottlingException.class);
+        // Throttles are deferred by ThrottleRecovery, not retried in the invocation
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void execute_QuotaLimitIsServiceLimitExceeded() {
+        assertThatThrownBy(() -> getAppFailingWith(limitExceeded("Maximum number of apps per account reached")))
+                .isInstanceOf(CfnServiceLimitExceededException.class)
+                .hasMessageContaining("Maximum number of apps per account reached");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void execute_LimitWithoutErrorDetailsFallsBackToExceptionMessage() {
+        assertThatThrownBy(() -> getAppFailingWith(LimitExceededException.builder()
+                .statusCode(429)
+                .message("Rate exceeded")
+                .build()))
+                .isInstanceOf(CfnThrottlingException.class);
+        assertThatThrownBy(() -> getAppFailingWith(LimitExceededException.builder()
+                .statusCode(429)
+                .build()))
+                .isInstanceOf(CfnServiceLimitExceededException.class);
+    }
+
+    private GetAppResponse getAppFailingWith(final RuntimeException failure) {
+        return ClientWrapper.execute(proxy, GetAppRequest.builder().appId("app1").build(), request -> {
+            calls.incrementAndGet();
+            throw failure;
+        }, TYPE_NAME, LOGGER);
+    }
+
+    // Both throttles and quotas come back with this error code and status
+    private static LimitExceededException limitExceeded(final String message) {
+        return (LimitExceededException) LimitExceededException.builder()
+                .statusCode(429)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("LimitExceededException")
+                        .errorMessage(message)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package software.amazon.amplify.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelDiffTest {
+    private static final String NAME = "Name";
+    private static final String TAGS = "Tags";
+    private static final String VARIABLES = "Variables";
+
+    private static final ModelDiff<Model> DIFF = ModelDiff.<Model>builder()
+            .property(NAME, Model::getName)
+            .property(TAGS, Model::getTags)
+            .property(VARIABLES, Model::getVariables)
+            .build();
+
+    @Test
+    public void changedProperties_NullPreviousChangesEveryProperty() {
+        final Model desired = new Model("app", null, null);
+
+        assertThat(DIFF.changedProperties(null, desired)).containsExactly(NAME, TAGS, VARIABLES);
+    }
+
+    @Test
+    public void changedProperties_NullDesiredChangesEveryProperty() {
+        final Model previous = new Model("app", null, null);
+
+        assertThat(DIFF.changedProperties(previous, null)).containsExactly(NAME, TAGS, VARIABLES);
+    }
+
+    @Test
+    public void changedProperties_EqualModelsChangeNothing() {
+        final Model previous = new Model("app", Arrays.asList("a", "b"), Collections.singletonMap("k", "v"));
+        final Model desired = new Model("app", Arrays.asList("a", "b"), Collections.singletonMap("k", "v"));
+
+        assertThat(DIFF.changedProperties(previous, desired)).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_EmptyCollectionEqualsNull() {
+        final Model previous = new Model("app", null, Collections.emptyMap());
+        final Model desired = new Model("app", Collections.emptyList(), null);
+
+        assertThat(DIFF.changedProperties(previous, desired)).isEmpty();
+    }
+
+    @Test
+    public void changedProperties_NullDiffersFromEmptyString() {
+        final Model previous = new Model(null, null, null);
+        final Model desired = new Model("", null, null);
+
+        assertThat(DIFF.changedProperties(previous, desired)).containsExactly(NAME);
+    }
+
+    @Test
+    public void changedProperties_ReportsChangesInRegistrationOrder() {
+        final Model previous = new Model("app", null, Collections.singletonMap("k", "v"));
+        final Model desired = new Model("app", Collections.singletonList("a"), Collections.singletonMap("k", "w"));
+
+        assertThat(DIFF.changedProperties(previous, desired)).containsExactly(TAGS, VARIABLES);
+    }
+
+    private static final class Model {
+        private final String name;
+        private final List<String> tags;
+        private final Map<String, String> variables;
+
+        Model(final String name, final List<String> tags, final Map<String, String> variables) {
+            this.name = name;
+            this.tags = tags;
+            this.variables = variables;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        List<String> getTags() {
+            return tags;
+        }
+
+        Map<String, String> getVariables() {
+            return variables;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package software.amazon.amplify.common.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.amplify.AmplifyClient;
+import software.amazon.awssdk.services.amplify.model.BadRequestException;
+import software.amazon.awssdk.services.amplify.model.TagResourceRequest;
+import software.amazon.awssdk.services.amplify.model.TagResourceResponse;
+import software.amazon.awssdk.services.amplify.model.UntagResourceRequest;
+import software.amazon.awssdk.services.amplify.model.UntagResourceResponse;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TagReconcilerTest {
+    private static final String TYPE_NAME = "AWS::Amplify::App";
+    private static final String ARN = "arn:aws:amplify:us-west-2:123456789012:apps/app1";
+    private static final LoggerProxy LOGGER = new LoggerProxy();
+    private static final Map<String, String> KNOWN_TAGS = Collections.singletonMap("old", "1");
+    private static final Map<String, String> DESIRED_TAGS = Collections.singletonMap("new", "2");
+
+    private final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(LOGGER,
+            new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofSeconds(600).toMillis());
+
+    @Mock
+    private ProxyClient<AmplifyClient> proxyClient;
+
+    @Mock
+    private AmplifyClient client;
+
+    @AfterEach
+    public void tearDown() {
+        verifyNoMoreInteractions(client);
+    }
+
+    @Test
+    public void reconcileAlongside_ReturnsMainResultAfterUntagAndTag() {
+        when(proxyClient.client()).thenReturn(client);
+        when(client.untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
+        when(client.tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+        final AtomicReference<String> mainThread = new AtomicReference<>();
+
+        final String result = TagReconciler.reconcileAlongside(() -> {
+            mainThread.set(Thread.currentThread().getName());
+            return "updated";
+        }, proxy, proxyClient, ARN, KNOWN_TAGS, DESIRED_TAGS, TYPE_NAME, ARN, LOGGER);
+
+        assertThat(result).isEqualTo("updated");
+        // The main call stays on the caller's thread
+        assertThat(mainThread.get()).isEqualTo(Thread.currentThread().getName());
+        verify(client).untagResource(any(UntagResourceRequest.class));
+        verify(client).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void reconcile_SurfacesTranslatedFailureOfOneCall() {
+        when(proxyClient.client()).thenReturn(client);
+        when(client.untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
+        when(client.tagResource(any(TagResourceRequest.class)))
+                .thenThrow(BadRequestException.builder().message("Invalid tag key").build());
+
+        assertThatThrownBy(() -> TagReconciler.reconcile(proxy, proxyClient, ARN, KNOWN_TAGS, DESIRED_TAGS,
+                TYPE_NAME, ARN, LOGGER))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("Invalid tag key");
+        verify(client).untagResource(any(UntagResourceRequest.class));
+        verify(client).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void reconcile_SkipsCallsWhenTagsAlreadyMatch() {
+        final Map<String, String> tags = TagReconciler.reconcile(proxy, proxyClient, ARN, DESIRED_TAGS, DESIRED_TAGS,
+                TYPE_NAME, ARN, LOGGER);
+
+        assertThat(tags).isEqualTo(DESIRED_TAGS);
+    }
+}